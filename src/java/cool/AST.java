@@ -22,10 +22,11 @@ public class AST {
 
 	abstract public static class expression extends ASTNode {
 
-		String type;
+		// Class node of the static type, null before the semantic pass and for no_expr
+		ClassGraph.Node type;
 
-		public expression() {
-			type = "_no_type";
+		public String getTypeName() {
+			return type == null ? "_no_type" : type.name();
 		}
 
 		String getString(String space) {
@@ -41,7 +42,7 @@ public class AST {
 		}
 
 		String getString(String space) {
-			return space + "#" + lineNo + "\n" + space + "_no_expr\n" + space + ": " + type;
+			return space + "#" + lineNo + "\n" + space + "_no_expr\n" + space + ": " + getTypeName();
 		}
 
 		public void accept(ASTVisitor visitor) {
@@ -59,7 +60,7 @@ public class AST {
 
 		String getString(String space) {
 			return space + "#" + lineNo + "\n" + space + "_bool\n" + space + sp + (value ? "1" : "0") + "\n" + space
-					+ ": " + type;
+					+ ": " + getTypeName();
 		}
 
 		public void accept(ASTVisitor visitor) {
@@ -78,7 +79,7 @@ public class AST {
 
 		String getString(String space) {
 			return space + "#" + lineNo + "\n" + space + "_string\n" + space + sp + "\""
-					+ escapeSpecialCharacters(value) + "\"" + "\n" + space + ": " + type;
+					+ escapeSpecialCharacters(value) + "\"" + "\n" + space + ": " + getTypeName();
 		}
 
 		public void accept(ASTVisitor visitor) {
@@ -96,7 +97,7 @@ public class AST {
 		}
 
 		String getString(String space) {
-			return space + "#" + lineNo + "\n" + space + "_int\n" + space + sp + value + "\n" + space + ": " + type;
+			return space + "#" + lineNo + "\n" + space + "_int\n" + space + sp + value + "\n" + space + ": " + getTypeName();
 		}
 
 		public void accept(ASTVisitor visitor) {
@@ -109,12 +110,12 @@ public class AST {
 		public String name;
 
 		public object(String v, int l) {
-			name = v;
+			name = Symbols.intern(v);
 			lineNo = l;
 		}
 
 		String getString(String space) {
-			return space + "#" + lineNo + "\n" + space + "_object\n" + space + sp + name + "\n" + space + ": " + type;
+			return space + "#" + lineNo + "\n" + space + "_object\n" + space + sp + name + "\n" + space + ": " + getTypeName();
 		}
 
 		public void accept(ASTVisitor visitor) {
@@ -133,7 +134,7 @@ public class AST {
 
 		String getString(String space) {
 			return space + "#" + lineNo + "\n" + space + "_comp\n" + e1.getString(space + sp) + "\n" + space + ": "
-					+ type;
+					+ getTypeName();
 		}
 
 		public void accept(ASTVisitor visitor) {
@@ -154,7 +155,7 @@ public class AST {
 
 		String getString(String space) {
 			return space + "#" + lineNo + "\n" + space + "_eq\n" + e1.getString(space + sp) + "\n"
-					+ e2.getString(space + sp) + "\n" + space + ": " + type;
+					+ e2.getString(space + sp) + "\n" + space + ": " + getTypeName();
 		}
 
 		public void accept(ASTVisitor visitor) {
@@ -175,7 +176,7 @@ public class AST {
 
 		String getString(String space) {
 			return space + "#" + lineNo + "\n" + space + "_leq\n" + e1.getString(space + sp) + "\n"
-					+ e2.getString(space + sp) + "\n" + space + ": " + type;
+					+ e2.getString(space + sp) + "\n" + space + ": " + getTypeName();
 		}
 
 		public void accept(ASTVisitor visitor) {
@@ -196,7 +197,7 @@ public class AST {
 
 		String getString(String space) {
 			return space + "#" + lineNo + "\n" + space + "_lt\n" + e1.getString(space + sp) + "\n"
-					+ e2.getString(space + sp) + "\n" + space + ": " + type;
+					+ e2.getString(space + sp) + "\n" + space + ": " + getTypeName();
 		}
 
 		public void accept(ASTVisitor visitor) {
@@ -215,7 +216,7 @@ public class AST {
 
 		String getString(String space) {
 			return space + "#" + lineNo + "\n" + space + "_neg\n" + e1.getString(space + sp) + "\n" + space + ": "
-					+ type;
+					+ getTypeName();
 		}
 
 		public void accept(ASTVisitor visitor) {
@@ -236,7 +237,7 @@ public class AST {
 
 		String getString(String space) {
 			return space + "#" + lineNo + "\n" + space + "_divide\n" + e1.getString(space + sp) + "\n"
-					+ e2.getString(space + sp) + "\n" + space + ": " + type;
+					+ e2.getString(space + sp) + "\n" + space + ": " + getTypeName();
 		}
 
 		public void accept(ASTVisitor visitor) {
@@ -257,7 +258,7 @@ public class AST {
 
 		String getString(String space) {
 			return space + "#" + lineNo + "\n" + space + "_mul\n" + e1.getString(space + sp) + "\n"
-					+ e2.getString(space + sp) + "\n" + space + ": " + type;
+					+ e2.getString(space + sp) + "\n" + space + ": " + getTypeName();
 		}
 
 		public void accept(ASTVisitor visitor) {
@@ -278,7 +279,7 @@ public class AST {
 
 		String getString(String space) {
 			return space + "#" + lineNo + "\n" + space + "_sub\n" + e1.getString(space + sp) + "\n"
-					+ e2.getString(space + sp) + "\n" + space + ": " + type;
+					+ e2.getString(space + sp) + "\n" + space + ": " + getTypeName();
 		}
 
 		public void accept(ASTVisitor visitor) {
@@ -299,7 +300,7 @@ public class AST {
 
 		String getString(String space) {
 			return space + "#" + lineNo + "\n" + space + "_plus\n" + e1.getString(space + sp) + "\n"
-					+ e2.getString(space + sp) + "\n" + space + ": " + type;
+					+ e2.getString(space + sp) + "\n" + space + ": " + getTypeName();
 		}
 
 		public void accept(ASTVisitor visitor) {
@@ -318,7 +319,7 @@ public class AST {
 
 		String getString(String space) {
 			return space + "#" + lineNo + "\n" + space + "_isvoid\n" + e1.getString(space + sp) + "\n" + space + ": "
-					+ type;
+					+ getTypeName();
 		}
 
 		public void accept(ASTVisitor visitor) {
@@ -331,12 +332,12 @@ public class AST {
 		public String typeid;
 
 		public new_(String t, int l) {
-			typeid = t;
+			typeid = Symbols.intern(t);
 			lineNo = l;
 		}
 
 		String getString(String space) {
-			return space + "#" + lineNo + "\n" + space + "_new\n" + space + sp + typeid + "\n" + space + ": " + type;
+			return space + "#" + lineNo + "\n" + space + "_new\n" + space + sp + typeid + "\n" + space + ": " + getTypeName();
 		}
 
 		public void accept(ASTVisitor visitor) {
@@ -350,14 +351,14 @@ public class AST {
 		public expression e1;
 
 		public assign(String n, expression v1, int l) {
-			name = n;
+			name = Symbols.intern(n);
 			e1 = v1;
 			lineNo = l;
 		}
 
 		String getString(String space) {
 			return space + "#" + lineNo + "\n" + space + "_assign\n" + space + sp + name + "\n"
-					+ e1.getString(space + sp) + "\n" + space + ": " + type;
+					+ e1.getString(space + sp) + "\n" + space + ": " + getTypeName();
 		}
 
 		public void accept(ASTVisitor visitor) {
@@ -379,7 +380,7 @@ public class AST {
 			for (expression e1 : l1) {
 				str += e1.getString(space + sp) + "\n";
 			}
-			str += space + ": " + type;
+			str += space + ": " + getTypeName();
 			return str;
 		}
 
@@ -401,7 +402,7 @@ public class AST {
 
 		String getString(String space) {
 			return space + "#" + lineNo + "\n" + space + "_loop\n" + predicate.getString(space + sp) + "\n"
-					+ body.getString(space + sp) + "\n" + space + ": " + type;
+					+ body.getString(space + sp) + "\n" + space + ": " + getTypeName();
 		}
 
 		public void accept(ASTVisitor visitor) {
@@ -424,7 +425,7 @@ public class AST {
 
 		String getString(String space) {
 			return space + "#" + lineNo + "\n" + space + "_cond\n" + predicate.getString(space + sp) + "\n"
-					+ ifbody.getString(space + sp) + "\n" + elsebody.getString(space + sp) + "\n" + space + ": " + type;
+					+ ifbody.getString(space + sp) + "\n" + elsebody.getString(space + sp) + "\n" + space + ": " + getTypeName();
 		}
 
 		public void accept(ASTVisitor visitor) {
@@ -440,8 +441,8 @@ public class AST {
 		public expression body;
 
 		public let(String n, String t, expression v, expression b, int l) {
-			name = n;
-			typeid = t;
+			name = Symbols.intern(n);
+			typeid = Symbols.intern(t);
 			value = v;
 			body = b;
 			lineNo = l;
@@ -450,7 +451,7 @@ public class AST {
 		String getString(String space) {
 			return space + "#" + lineNo + "\n" + space + "_let\n" + space + sp + name + "\n" + space + sp + typeid
 					+ "\n" + value.getString(space + sp) + "\n" + body.getString(space + sp) + "\n" + space + ": "
-					+ type;
+					+ getTypeName();
 		}
 
 		public void accept(ASTVisitor visitor) {
@@ -466,7 +467,7 @@ public class AST {
 
 		public dispatch(expression v1, String n, List<expression> a, int l) {
 			caller = v1;
-			name = n;
+			name = Symbols.intern(n);
 			actuals = a;
 			lineNo = l;
 		}
@@ -478,7 +479,7 @@ public class AST {
 			for (expression e1 : actuals) {
 				str += e1.getString(space + sp) + "\n";
 			}
-			str += space + sp + ")\n" + space + ": " + type;
+			str += space + sp + ")\n" + space + ": " + getTypeName();
 			return str;
 		}
 
@@ -496,8 +497,8 @@ public class AST {
 
 		public static_dispatch(expression v1, String t, String n, List<expression> a, int l) {
 			caller = v1;
-			typeid = t;
-			name = n;
+			typeid = Symbols.intern(t);
+			name = Symbols.intern(n);
 			actuals = a;
 			lineNo = l;
 		}
@@ -509,7 +510,7 @@ public class AST {
 			for (expression e1 : actuals) {
 				str += e1.getString(space + sp) + "\n";
 			}
-			str += space + sp + ")\n" + space + ": " + type;
+			str += space + sp + ")\n" + space + ": " + getTypeName();
 			return str;
 		}
 
@@ -534,7 +535,7 @@ public class AST {
 			for (branch b1 : branches) {
 				str += b1.getString(space + sp) + "\n";
 			}
-			str += space + ": " + type;
+			str += space + ": " + getTypeName();
 			return str;
 		}
 
@@ -550,8 +551,8 @@ public class AST {
 		public expression value;
 
 		public branch(String n, String t, expression v, int l) {
-			name = n;
-			type = t;
+			name = Symbols.intern(n);
+			type = Symbols.intern(t);
 			value = v;
 			lineNo = l;
 		}
@@ -572,8 +573,8 @@ public class AST {
 		public String typeid;
 
 		public formal(String n, String t, int l) {
-			name = n;
-			typeid = t;
+			name = Symbols.intern(n);
+			typeid = Symbols.intern(t);
 			lineNo = l;
 		}
 
@@ -605,9 +606,9 @@ public class AST {
 		public expression body;
 
 		public method(String n, List<formal> f, String t, expression b, int l) {
-			name = n;
+			name = Symbols.intern(n);
 			formals = f;
-			typeid = t;
+			typeid = Symbols.intern(t);
 			body = b;
 			lineNo = l;
 		}
@@ -633,8 +634,8 @@ public class AST {
 		public expression value;
 
 		public attr(String n, String t, expression v, int l) {
-			name = n;
-			typeid = t;
+			name = Symbols.intern(n);
+			typeid = Symbols.intern(t);
 			value = v;
 			lineNo = l;
 		}
@@ -658,9 +659,9 @@ public class AST {
 		public List<feature> features;
 
 		public class_(String n, String f, String p, List<feature> fs, int l) {
-			name = n;
+			name = Symbols.intern(n);
 			filename = f;
-			parent = p;
+			parent = Symbols.intern(p);
 			features = fs;
 			lineNo = l;
 		}
@@ -0,0 +1,76 @@
+package cool;
+
+import java.util.List;
+
+/**
+ * Everything produced by analyzing one program with CoolAnalyzer.
+ */
+public class AnalysisResult {
+
+    /**
+     * How far the analysis got
+     */
+    public enum Outcome {
+        PASSED("ok"),
+        TIMED_OUT("timed out"),
+        READ_ERROR("could not read file"),
+        LEXICAL_ERROR("lexical errors"),
+        SYNTAX_ERROR("syntax errors"),
+        SEMANTIC_ERROR("semantic errors");
+
+        final String description;
+
+        Outcome(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+
+    private final String filename;
+    private final Outcome outcome;
+    private final AST.program program;
+    private final ClassGraph graph;
+    private final List<Diagnostic> diagnostics;
+
+    AnalysisResult(String filename, Outcome outcome, AST.program program, ClassGraph graph,
+                   List<Diagnostic> diagnostics) {
+        this.filename = filename;
+        this.outcome = outcome;
+        this.program = program;
+        this.graph = graph;
+        this.diagnostics = diagnostics;
+    }
+
+    public String getFilename() {
+        return filename;
+    }
+
+    public Outcome getOutcome() {
+        return outcome;
+    }
+
+    /**
+     * Returns the annotated AST, null if the program did not parse
+     */
+    public AST.program getProgram() {
+        return program;
+    }
+
+    /**
+     * Returns the class graph, null if the semantic passes did not run
+     */
+    public ClassGraph getClassGraph() {
+        return graph;
+    }
+
+    public List<Diagnostic> getDiagnostics() {
+        return diagnostics;
+    }
+
+    public boolean hasErrors() {
+        return outcome != Outcome.PASSED;
+    }
+}
@@ -5,22 +5,44 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 
+/**
+ * Class hierarchy of a program
+ */
 public class ClassGraph {
 
     private Node rootNode;                         // The root node "Object: of the Tree
     private HashMap<String, Node> classNameToNode; // Map from class name to class Node
+    private List<Node> nodes;                      // Class nodes by id
     private List<String> noInheritList;            // Classes we can't inherit from
     int timer;                                     // Helper for the DFS algorithm
+    private ErrorHandler errors;                   // Error state of the current analysis run
 
     /**
      * Constructor
      */
     public ClassGraph() {
+        this(new ErrorHandler());
+    }
+
+    /**
+     * Constructor
+     * @param errors Error handler of the analysis run this graph belongs to
+     */
+    public ClassGraph(ErrorHandler errors) {
+        this.errors = errors;
         classNameToNode = new HashMap<>();
+        nodes = new ArrayList<>();
         noInheritList   = Arrays.asList("Int", "String", "Bool");
         addBasicClasses();
     }
 
+    /**
+     * Returns the error handler of this analysis run
+     */
+    public ErrorHandler getErrorHandler() {
+        return errors;
+    }
+
     /**
      * Returns a list of Class nodes
      */
@@ -37,13 +59,31 @@ public class ClassGraph {
         return classNameToNode.get(className);
     }
 
+    /**
+     * Returns the node with the given id
+     * @param id
+     * @return
+     */
+    public Node getNode(int id) {
+        return nodes.get(id);
+    }
+
+    /**
+     * Adds a node to the map, giving it the next id
+     */
+    private void addNode(Node nd) {
+        nd.id = nodes.size();
+        nodes.add(nd);
+        classNameToNode.put(nd.name(), nd);
+    }
+
     /**
      * Preprocesses and analyzes the class graph.
      */
     public void analyze() {
 
         // If error occurred while adding classes, bail
-        if (ErrorHandler.getErrorFlag()) return;
+        if (errors.getErrorFlag()) return;
 
         updateEdges(); // Inform parents about their children
 
@@ -58,7 +98,7 @@ public class ClassGraph {
                     cyclePath.append(" -> ").append(nx.name());
                     nx = nx.getParentNode();
                 }
-                ErrorHandler.reportError(nd.getAstClass().filename, nd.getAstClass().lineNo,
+                errors.reportError(nd.getAstClass().filename, nd.getAstClass().lineNo,
                      "Cyclic dependency detected. These are involved in a cycle: "+ cyclePath.toString());
                 return;
             }
@@ -101,7 +141,7 @@ public class ClassGraph {
                 nd.setParentNode(parentNode);
                 parentNode.addChild(nd);
             } else {
-                ErrorHandler.reportError(nd.getAstClass().filename , nd.getAstClass().lineNo
+                errors.reportError(nd.getAstClass().filename , nd.getAstClass().lineNo
                                     , "Parent class "+parentName+" of class "+nd.name()
                                     + " doesn't exist. Recovery by setting parent to 'Object'" );
                 nd.setParentNode(rootNode);
@@ -177,12 +217,12 @@ public class ClassGraph {
     public void addClass(AST.class_ astClass) {
 
         if(classNameToNode.containsKey(astClass.name)) {
-            ErrorHandler.reportError(astClass.filename, astClass.lineNo, "Class "+astClass.name 
+            errors.reportError(astClass.filename, astClass.lineNo, "Class "+astClass.name 
                                                                         + " defined multiple times.");
         } else if (isRestrictedInheritance(astClass)) {
-            ErrorHandler.reportError(astClass.filename, astClass.lineNo, "Can't inherit from "+astClass.parent);
+            errors.reportError(astClass.filename, astClass.lineNo, "Can't inherit from "+astClass.parent);
         } else {
-            classNameToNode.put(astClass.name, new Node(astClass));
+            addNode(new Node(astClass));
         }
     }
 
@@ -215,7 +255,7 @@ public class ClassGraph {
         AST.class_ obj = new AST.class_("Object", null, null, obj_features, -1);
         
         rootNode = new Node(obj);
-        classNameToNode.put("Object", rootNode);
+        addNode(rootNode);
     }
 
     private void addIO() {
@@ -265,6 +305,7 @@ public class ClassGraph {
 
         public int inTime, outTime;                 // For algorithmic storage
         public int depth;
+        public int id;                              // Dense id, in order of addition to the graph
 
         public Node(AST.class_ astClass) {
             this.astClass = astClass;
@@ -0,0 +1,250 @@
+package cool;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.RuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.misc.Interval;
+import org.antlr.v4.runtime.misc.Pair;
+
+/**
+ * Buffered token stream keeping its tokens in parallel primitive arrays.
+ *
+ * CommonTokenStream keeps every CommonToken the lexer made, which for a large
+ * source outweighs the source itself. This stream copies the type, char indexes,
+ * line and column of each token into arrays and drops the token. The text of a
+ * token is not stored unless it differs from the source: names are kept as an
+ * index into the stream's list of the distinct names it has seen, and the texts
+ * of string constants and lexical errors in a side list.
+ *
+ * A Token is made again when the parser asks for one, and the last few are kept
+ * as the parser asks for the same ones repeatedly. Prediction only looks at token
+ * types and makes none. Only default channel tokens are kept, which are all the
+ * tokens of the Cool lexers.
+ */
+public class CompactTokenStream implements TokenStream {
+
+    private static final int RECENT = 16;   // Power of two
+
+    private final TokenSource source;
+    private final Pair<TokenSource, CharStream> sourcePair;
+
+    private byte[] types = new byte[1024];
+    private int[] starts = new int[1024];
+    private int[] stops = new int[1024];
+    private int[] lines = new int[1024];
+    private int[] columns = new int[1024];
+    private int[] texts = new int[1024];                    // 0: source text, > 0: index in names + 1,
+    private final List<String> strings = new ArrayList<>(); // < 0: -1 - index in strings
+    private final List<String> names = new ArrayList<>();
+    private final HashMap<String, Integer> nameIndex = new HashMap<>();
+    private int n = 0;
+    private boolean done = false;                           // EOF fetched
+    private int p = 0;
+
+    private final Token[] recent = new Token[RECENT];
+
+    public CompactTokenStream(TokenSource source) {
+        this.source = source;
+        this.sourcePair = new Pair<TokenSource, CharStream>(source, source.getInputStream());
+    }
+
+    /**
+     * Next token of the source
+     */
+    protected Token fetch() {
+        return source.nextToken();
+    }
+
+    /**
+     * Fetches tokens up to index i, or to EOF
+     */
+    private void sync(int i) {
+        while (n <= i && !done) {
+            Token t = fetch();
+            if (t.getChannel() == Token.DEFAULT_CHANNEL) add(t);
+            done = t.getType() == Token.EOF;
+            if (done) resize(n);
+        }
+    }
+
+    /**
+     * Fetches all the tokens
+     */
+    public void fill() {
+        sync(Integer.MAX_VALUE - 1);
+    }
+
+    private void add(Token t) {
+        if (n == types.length) resize(2 * n);
+        int type = t.getType();
+        types[n] = (byte) type;
+        starts[n] = t.getStartIndex();
+        stops[n] = t.getStopIndex();
+        lines[n] = t.getLine();
+        columns[n] = t.getCharPositionInLine();
+        if (type == CoolLexer.TYPEID || type == CoolLexer.OBJECTID) {
+            texts[n] = nameIndex.computeIfAbsent(t.getText(), name -> {
+                names.add(name);
+                return names.size() - 1;
+            }) + 1;
+        } else if (type == CoolLexer.STR_CONST || type == CoolLexer.ERROR) {
+            strings.add(t.getText());
+            texts[n] = -strings.size();
+        } else {
+            texts[n] = 0;
+        }
+        n++;
+    }
+
+    private void resize(int size) {
+        types = Arrays.copyOf(types, size);
+        starts = Arrays.copyOf(starts, size);
+        stops = Arrays.copyOf(stops, size);
+        lines = Arrays.copyOf(lines, size);
+        columns = Arrays.copyOf(columns, size);
+        texts = Arrays.copyOf(texts, size);
+    }
+
+    /**
+     * Type of the token at index i, without making the token
+     */
+    public int getType(int i) {
+        sync(i);
+        return types[Math.min(i, n - 1)];
+    }
+
+    /**
+     * Text the token at index i has, null if it is that of the source
+     */
+    private String storedText(int i) {
+        int text = texts[i];
+        if (text > 0) return names.get(text - 1);
+        if (text < 0) return strings.get(-1 - text);
+        return null;
+    }
+
+    @Override
+    public Token get(int i) {
+        sync(i);
+        if (i < 0 || i >= n)
+            throw new IndexOutOfBoundsException("token index " + i + " out of range 0.." + (n - 1));
+        Token t = recent[i & (RECENT - 1)];
+        if (t != null && t.getTokenIndex() == i) return t;
+        CommonToken c = newToken(i, types[i], i);
+        recent[i & (RECENT - 1)] = c;
+        return c;
+    }
+
+    /**
+     * A new token made from index i of the filled stream, with the given type
+     * and token index. Only reads the arrays, so other threads may call it.
+     */
+    CommonToken newToken(int i, int type, int index) {
+        CommonToken c = new CommonToken(sourcePair, type, Token.DEFAULT_CHANNEL, starts[i], stops[i]);
+        c.setLine(lines[i]);
+        c.setCharPositionInLine(columns[i]);
+        c.setText(storedText(i));
+        c.setTokenIndex(index);
+        return c;
+    }
+
+    @Override
+    public Token LT(int k) {
+        if (k == 0) return null;
+        int i = k > 0 ? p + k - 1 : p + k;
+        if (i < 0) return null;
+        sync(i);
+        return get(Math.min(i, n - 1));
+    }
+
+    @Override
+    public int LA(int k) {
+        if (k == 0) return Token.INVALID_TYPE;
+        int i = k > 0 ? p + k - 1 : p + k;
+        if (i < 0) return Token.INVALID_TYPE;
+        return getType(i);
+    }
+
+    @Override
+    public void consume() {
+        if (LA(1) == Token.EOF) throw new IllegalStateException("cannot consume EOF");
+        p++;
+        sync(p);
+    }
+
+    @Override
+    public int mark() {
+        return 0; // All tokens stay buffered
+    }
+
+    @Override
+    public void release(int marker) {
+    }
+
+    @Override
+    public int index() {
+        return p;
+    }
+
+    @Override
+    public void seek(int index) {
+        sync(index);
+        p = Math.min(index, n - 1);
+    }
+
+    @Override
+    public int size() {
+        return n;
+    }
+
+    @Override
+    public String getSourceName() {
+        return source.getSourceName();
+    }
+
+    @Override
+    public TokenSource getTokenSource() {
+        return source;
+    }
+
+    @Override
+    public String getText(Interval interval) {
+        int start = interval.a;
+        int stop = interval.b;
+        if (start < 0 || stop < 0) return "";
+        sync(stop);
+        if (stop >= n) stop = n - 1;
+        StringBuilder buf = new StringBuilder();
+        for (int i = start; i <= stop; i++) {
+            if (types[i] == Token.EOF) break;
+            String text = storedText(i);
+            buf.append(text != null ? text : sourcePair.b.getText(Interval.of(starts[i], stops[i])));
+        }
+        return buf.toString();
+    }
+
+    @Override
+    public String getText() {
+        fill();
+        return getText(Interval.of(0, n - 1));
+    }
+
+    @Override
+    public String getText(RuleContext ctx) {
+        return getText(ctx.getSourceInterval());
+    }
+
+    @Override
+    public String getText(Token start, Token stop) {
+        if (start == null || stop == null) return "";
+        return getText(Interval.of(start.getTokenIndex(), stop.getTokenIndex()));
+    }
+}
@@ -0,0 +1,719 @@
+package cool;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import org.antlr.v4.runtime.ANTLRErrorListener;
+import org.antlr.v4.runtime.ANTLRInputStream;
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.CommonTokenFactory;
+import org.antlr.v4.runtime.ConsoleErrorListener;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Recognizer;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenFactory;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.UnbufferedTokenStream;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.Interval;
+import org.antlr.v4.runtime.misc.Pair;
+
+/**
+ * Embeddable entry point of the analyzer.
+ *
+ * Runs the lexer, the parser and both semantic passes on a program and returns
+ * an AnalysisResult instead of printing or exiting. An instance holds no per-run
+ * state, so it can be reused for any number of programs and from several threads
+ * at once. The lexer and parser DFA caches are shared by all runs in the JVM, so
+ * every analysis after the first ones runs on warm caches.
+ *
+ * An analyzer created with a timeout gives every analysis that time budget. An
+ * analysis over its budget, or whose Deadline was cancelled, stops at the next
+ * checkpoint of the lexer, the parser or the semantic check pass and returns a
+ * TIMED_OUT result carrying a timeout diagnostic.
+ *
+ * The parsers and the semantic passes recurse on the nesting of expressions. A
+ * program nested deeper than the stack of the analyzing thread goes, such as
+ * thousands of nested lets, gets a depth diagnostic instead and the SYNTAX_ERROR
+ * or SEMANTIC_ERROR outcome of the stage that ran out of stack.
+ *
+ * The tokens come from the generated CoolLexer or from the hand-written
+ * FastCoolLexer, which produces the same ones faster, possibly on several
+ * threads for a large source; see LexerKind. They are parsed in SLL mode first,
+ * then in LL mode if that failed, or by the hand-written FastCoolParser, and the
+ * classes of a large source can be parsed on several threads; see ParseMode.
+ */
+public class CoolAnalyzer {
+
+    /**
+     * Sources of at least this many characters are lexed and parsed in a single
+     * streaming pass, see parseStreaming
+     */
+    static final long STREAMING_THRESHOLD = Long.getLong("cool.streamThreshold", 1 << 20);
+
+    /**
+     * Files of at least this many bytes are memory-mapped instead of read into a char[]
+     */
+    static final long MAPPING_THRESHOLD = Long.getLong("cool.mapThreshold", 1 << 20);
+
+    /**
+     * Lexer implementations, both produce the same tokens
+     */
+    public enum LexerKind {
+        ANTLR,      // The generated CoolLexer
+        FAST,       // FastCoolLexer
+        PARALLEL;   // ParallelLexer on large sources given several cores, else FastCoolLexer
+
+        /**
+         * The lexer named by the cool.lexer property, ANTLR by default
+         */
+        public static LexerKind configured() {
+            return valueOf(System.getProperty("cool.lexer", "antlr").toUpperCase());
+        }
+    }
+
+    /**
+     * Parsing strategies, all give the same ASTs and diagnostics
+     */
+    public enum ParseMode {
+        LL,         // CoolParser with full LL prediction
+        SLL_LL,     // CoolParser with SLL prediction bailing out at the first error, then LL if that failed
+        FAST,       // FastCoolParser, then CoolParser in LL mode for the diagnostics if that failed
+        PARALLEL;   // SLL_LL, the SLL stage parsing the classes of a source on several cores at once
+
+        /**
+         * The mode named by the cool.parse property, SLL_LL by default
+         */
+        public static ParseMode configured() {
+            return valueOf(System.getProperty("cool.parse", "sll_ll").toUpperCase());
+        }
+    }
+
+    private final long timeoutMillis;
+    private final LexerKind lexer;
+    private final ParseMode parseMode;
+
+    /**
+     * An analyzer without time limit
+     */
+    public CoolAnalyzer() {
+        this(0);
+    }
+
+    /**
+     * @param timeoutMillis Time budget of every analysis, 0 for unlimited
+     */
+    public CoolAnalyzer(long timeoutMillis) {
+        this(timeoutMillis, LexerKind.configured());
+    }
+
+    /**
+     * @param timeoutMillis Time budget of every analysis, 0 for unlimited
+     * @param lexer         Lexer to tokenize the sources with
+     */
+    public CoolAnalyzer(long timeoutMillis, LexerKind lexer) {
+        this(timeoutMillis, lexer, ParseMode.configured());
+    }
+
+    /**
+     * @param timeoutMillis Time budget of every analysis, 0 for unlimited
+     * @param lexer         Lexer to tokenize the sources with
+     * @param parseMode     Prediction strategy of the parser
+     */
+    public CoolAnalyzer(long timeoutMillis, LexerKind lexer, ParseMode parseMode) {
+        this.timeoutMillis = timeoutMillis;
+        this.lexer = lexer;
+        this.parseMode = parseMode;
+    }
+
+    /**
+     * A fresh deadline with the time budget of this analyzer
+     */
+    public Deadline newDeadline() {
+        return Deadline.after(timeoutMillis);
+    }
+
+    /**
+     * Analyzes the program in the given file
+     * @param file
+     * @return
+     */
+    public AnalysisResult analyze(Path file) {
+        return analyze(file, newDeadline());
+    }
+
+    /**
+     * Analyzes the program in the given file within the deadline
+     * @param file
+     * @param deadline
+     * @return
+     */
+    public AnalysisResult analyze(Path file, Deadline deadline) {
+        // Parsed directly rather than through analyze(List): a single file gains nothing from
+        // the fork-join pool and skipping it keeps stream and lambda bootstrap off the startup path.
+        return analyzeUnits(Collections.singletonList(parse(file, deadline)), deadline);
+    }
+
+    /**
+     * Analyzes a program split across several files.
+     * Every file is lexed and parsed on its own core, then the classes of all files
+     * are merged, in the given order, into one AST.program for the semantic passes.
+     * @param files
+     * @return
+     */
+    public AnalysisResult analyze(List<Path> files) {
+        return analyze(files, newDeadline());
+    }
+
+    /**
+     * Analyzes a program split across several files within the deadline
+     * @param files
+     * @param deadline  Shared by the threads parsing the files
+     * @return
+     */
+    public AnalysisResult analyze(List<Path> files, Deadline deadline) {
+        List<ParsedUnit> units = files.parallelStream()
+                                      .map(f -> parse(f, deadline))
+                                      .collect(Collectors.toList());
+        return analyzeUnits(units, deadline);
+    }
+
+    /**
+     * Analyzes a program given as source text
+     * @param source    The program
+     * @param filename  Name recorded in the AST and the diagnostics
+     * @return
+     */
+    public AnalysisResult analyze(CharSequence source, String filename) {
+        return analyze(source, filename, newDeadline());
+    }
+
+    /**
+     * Analyzes a program given as source text within the deadline
+     * @param source    The program
+     * @param filename  Name recorded in the AST and the diagnostics
+     * @param deadline
+     * @return
+     */
+    public AnalysisResult analyze(CharSequence source, String filename, Deadline deadline) {
+        ANTLRInputStream input = new ANTLRInputStream(source.toString());
+        input.name = filename;
+        return analyzeUnits(Collections.singletonList(parse(input, filename, deadline)), deadline);
+    }
+
+    /**
+     * Name used for a file in the AST and the diagnostics
+     */
+    static String nameOf(Path file) {
+        return file.getFileName().toString();
+    }
+
+    /**
+     * Lexing and parsing result of one source file
+     */
+    static class ParsedUnit {
+        final String filename;
+        final AnalysisResult.Outcome outcome;   // PASSED if the file parsed
+        final List<AST.class_> classes;
+        final List<Diagnostic> diagnostics;
+
+        ParsedUnit(String filename, AnalysisResult.Outcome outcome, List<AST.class_> classes,
+                   List<Diagnostic> diagnostics) {
+            this.filename = filename;
+            this.outcome = outcome;
+            this.classes = classes;
+            this.diagnostics = diagnostics;
+        }
+    }
+
+    /**
+     * Reads, lexes and parses one file
+     */
+    ParsedUnit parse(Path file) {
+        return parse(file, newDeadline());
+    }
+
+    ParsedUnit parse(Path file, Deadline deadline) {
+        String filename = file.toString();
+        try {
+            if (Files.size(file) >= MAPPING_THRESHOLD) {
+                try {
+                    return parse(MappedCharStream.map(file), nameOf(file), deadline);
+                } catch (MappedCharStream.NonAsciiInput e) {
+                    // Start over on decoded chars
+                }
+            }
+            ANTLRInputStream input;
+            try (InputStream in = Files.newInputStream(file)) {
+                input = new ANTLRInputStream(in);
+            }
+            input.name = filename;
+            return parse(input, nameOf(file), deadline);
+        } catch (IOException e) {
+            ErrorHandler errors = new ErrorHandler(null);
+            errors.report(new Diagnostic(Diagnostic.Kind.IO, filename, -1, "Could not read file " + filename));
+            return new ParsedUnit(filename, AnalysisResult.Outcome.READ_ERROR, null, errors.getDiagnostics());
+        }
+    }
+
+    /**
+     * Token factory giving the names CoolLexer finds their canonical Symbols text,
+     * as FastCoolLexer does
+     */
+    private static final TokenFactory<CommonToken> INTERNING_FACTORY = new CommonTokenFactory() {
+        @Override
+        public CommonToken create(Pair<TokenSource, CharStream> source, int type, String text, int channel,
+                                  int start, int stop, int line, int charPositionInLine) {
+            if (text == null && (type == CoolLexer.TYPEID || type == CoolLexer.OBJECTID))
+                text = Symbols.intern(source.b.getText(Interval.of(start, stop)));
+            return super.create(source, type, text, channel, start, stop, line, charPositionInLine);
+        }
+    };
+
+    /**
+     * A lexer of the kind this analyzer uses on the input, printing its
+     * recognition errors on the console
+     */
+    TokenSource newLexer(CharStream input, Deadline deadline) {
+        return newLexer(input, deadline, ConsoleErrorListener.INSTANCE);
+    }
+
+    /**
+     * A lexer of the kind this analyzer uses on the input, giving its
+     * recognition errors to the listener
+     */
+    TokenSource newLexer(CharStream input, Deadline deadline, ANTLRErrorListener listener) {
+        if (lexer == LexerKind.PARALLEL && input.size() >= 2 * ParallelLexer.MIN_CHUNK
+            && ForkJoinPool.getCommonPoolParallelism() > 1) {
+            ParallelLexer parallel = new ParallelLexer(input, deadline);
+            parallel.removeErrorListeners();
+            parallel.addErrorListener(listener);
+            return parallel;
+        }
+        if (lexer != LexerKind.ANTLR) {
+            FastCoolLexer fast = new FastCoolLexer(input);
+            fast.removeErrorListeners();
+            fast.addErrorListener(listener);
+            return fast;
+        }
+        CoolLexer antlr = new CoolLexer(input);
+        antlr.setTokenFactory(INTERNING_FACTORY);
+        antlr.removeErrorListeners();
+        antlr.addErrorListener(listener);
+        return antlr;
+    }
+
+    /**
+     * Reports the recognition errors of a lexer, which ANTLR would print on the
+     * console, as diagnostics of the source
+     */
+    private static class RecognitionErrors extends BaseErrorListener {
+        private final String filename;
+        private final ErrorHandler errors;
+
+        RecognitionErrors(String filename, ErrorHandler errors) {
+            this.filename = filename;
+            this.errors = errors;
+        }
+
+        @Override
+        public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line, int charPositionInLine,
+                                String msg, RecognitionException e) {
+            errors.report(new Diagnostic(Diagnostic.Kind.RECOGNITION, filename, line, charPositionInLine, msg));
+        }
+    }
+
+    /**
+     * Lexes and parses one source. Lexical errors stop the file before parsing,
+     * and the parse stops at the first syntax error.
+     */
+    ParsedUnit parse(CharStream input, String filename, Deadline deadline) {
+        DfaCache.check();
+        try {
+            return parseChecked(input, filename, deadline);
+        } catch (StackOverflowError e) {
+            ErrorHandler errors = new ErrorHandler(null);
+            errors.report(tooDeep(filename));
+            return new ParsedUnit(filename, AnalysisResult.Outcome.SYNTAX_ERROR, null, errors.getDiagnostics());
+        } finally {
+            DfaCache.check();   // One parse can grow the DFAs far past the ceiling
+        }
+    }
+
+    private ParsedUnit parseChecked(CharStream input, String filename, Deadline deadline) {
+        if (input.size() >= STREAMING_THRESHOLD && !parallelParse())
+            return parseStreaming(input, filename, deadline);
+
+        ErrorHandler errors = new ErrorHandler(null);
+        try {
+            CompactTokenStream tokens = new DeadlineTokenStream(
+                newLexer(input, deadline, new RecognitionErrors(filename, errors)), deadline);
+            tokens.fill();
+            for (int i = 0; i < tokens.size(); i++) {
+                if (tokens.getType(i) == CoolLexer.ERROR) {
+                    Token t = tokens.get(i);
+                    errors.report(new Diagnostic(Diagnostic.Kind.LEXICAL, filename, t.getLine(),
+                                                 SemanticTest.escapeSpecialCharacters(t.getText())));
+                }
+            }
+            if (errors.getErrorFlag())
+                return new ParsedUnit(filename, AnalysisResult.Outcome.LEXICAL_ERROR, null, errors.getDiagnostics());
+
+            AST.program program = parse(tokens, filename, errors, deadline);
+            if (program == null)
+                return new ParsedUnit(filename, AnalysisResult.Outcome.SYNTAX_ERROR, null, errors.getDiagnostics());
+            return new ParsedUnit(filename, AnalysisResult.Outcome.PASSED, program.classes, errors.getDiagnostics());
+        } catch (Deadline.Expired e) {
+            errors.report(new Diagnostic(Diagnostic.Kind.TIMEOUT, filename, -1, e.getMessage()));
+            return new ParsedUnit(filename, AnalysisResult.Outcome.TIMED_OUT, null, errors.getDiagnostics());
+        }
+    }
+
+    /**
+     * Lexes and parses one source in a single pass, with the same diagnostics as
+     * parse. The parser pulls its tokens straight from the lexer and the tokens
+     * behind it are released, so memory stays bounded by the AST. Lexical errors
+     * are picked up as the tokens go by; when there are any, the syntax error they
+     * cause is dropped and the rest of the source is only lexed, to report all
+     * the lexical errors as parse does.
+     */
+    private ParsedUnit parseStreaming(CharStream input, String filename, Deadline deadline) {
+        if (parseMode != ParseMode.LL) {
+            ParsedUnit unit = parseStreaming(input, filename, deadline, parseMode);
+            if (unit != null) return unit;
+            // The released tokens are lexed again from the start
+            input.seek(0);
+        }
+        return parseStreaming(input, filename, deadline, ParseMode.LL);
+    }
+
+    /**
+     * @param mode  LL, or the first attempt of another mode, which returns null
+     *              after a syntax error that no lexical error explains
+     */
+    private ParsedUnit parseStreaming(CharStream input, String filename, Deadline deadline, ParseMode mode) {
+        ErrorHandler errors = new ErrorHandler(null);
+        ErrorHandler syntaxErrors = new ErrorHandler(null);
+        try {
+            TokenSource lexer = newLexer(input, deadline, new RecognitionErrors(filename, errors));
+            LexicalErrorSource source = new LexicalErrorSource(lexer, filename, errors, deadline);
+            TokenStream tokens = new StreamingTokenStream(source, deadline);
+            AST.program program = mode == ParseMode.LL ? parseLL(tokens, filename, syntaxErrors)
+                                  : mode == ParseMode.FAST ? parseFast(tokens, filename) : parseSLL(tokens, filename);
+            source.drain();
+            if (errors.getErrorFlag())
+                return new ParsedUnit(filename, AnalysisResult.Outcome.LEXICAL_ERROR, null, errors.getDiagnostics());
+            if (program == null && mode != ParseMode.LL)
+                return null;
+            if (program == null) {
+                // errors then holds the recognition errors only, which came before the syntax error
+                for (Diagnostic d : syntaxErrors.getDiagnostics())
+                    errors.report(d);
+                return new ParsedUnit(filename, AnalysisResult.Outcome.SYNTAX_ERROR, null, errors.getDiagnostics());
+            }
+            return new ParsedUnit(filename, AnalysisResult.Outcome.PASSED, program.classes, errors.getDiagnostics());
+        } catch (Deadline.Expired e) {
+            errors.report(new Diagnostic(Diagnostic.Kind.TIMEOUT, filename, -1, e.getMessage()));
+            return new ParsedUnit(filename, AnalysisResult.Outcome.TIMED_OUT, null, errors.getDiagnostics());
+        }
+    }
+
+    /**
+     * Token source reporting the ERROR tokens of the lexer as lexical errors while
+     * passing all the default channel tokens on
+     */
+    private static class LexicalErrorSource implements TokenSource {
+        private final TokenSource lexer;
+        private final String filename;
+        private final ErrorHandler errors;
+        private final Deadline deadline;
+        private boolean done;
+
+        LexicalErrorSource(TokenSource lexer, String filename, ErrorHandler errors, Deadline deadline) {
+            this.lexer = lexer;
+            this.filename = filename;
+            this.errors = errors;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public Token nextToken() {
+            while (true) {
+                deadline.check();
+                Token t = lexer.nextToken();
+                if (t.getType() == Token.EOF) {
+                    done = true;
+                } else if (t.getType() == CoolLexer.ERROR) {
+                    errors.report(new Diagnostic(Diagnostic.Kind.LEXICAL, filename, t.getLine(),
+                                                 SemanticTest.escapeSpecialCharacters(t.getText())));
+                }
+                if (t.getChannel() == Token.DEFAULT_CHANNEL) return t;
+            }
+        }
+
+        /**
+         * Lexes the rest of the source after the parser stopped
+         */
+        void drain() {
+            while (!done) nextToken();
+        }
+
+        @Override
+        public int getLine() {
+            return lexer.getLine();
+        }
+
+        @Override
+        public int getCharPositionInLine() {
+            return lexer.getCharPositionInLine();
+        }
+
+        @Override
+        public CharStream getInputStream() {
+            return lexer.getInputStream();
+        }
+
+        @Override
+        public String getSourceName() {
+            return lexer.getSourceName();
+        }
+
+        @Override
+        public void setTokenFactory(TokenFactory<?> factory) {
+            lexer.setTokenFactory(factory);
+        }
+
+        @Override
+        public TokenFactory<?> getTokenFactory() {
+            return lexer.getTokenFactory();
+        }
+    }
+
+    /**
+     * Unbuffered token stream with a deadline checkpoint per consumed token.
+     * An error message quoting tokens that were already released gets the
+     * text of the ones still buffered instead of failing.
+     */
+    private static class StreamingTokenStream extends UnbufferedTokenStream<Token> {
+        private final Deadline deadline;
+
+        StreamingTokenStream(TokenSource source, Deadline deadline) {
+            super(source);
+            this.deadline = deadline;
+        }
+
+        @Override
+        public void consume() {
+            deadline.check();
+            super.consume();
+        }
+
+        @Override
+        public String getText(Interval interval) {
+            int first = getBufferStartIndex();
+            int last = first + n - 1;
+            return super.getText(Interval.of(Math.max(interval.a, first), Math.min(interval.b, last)));
+        }
+    }
+
+    /**
+     * Token stream passing a deadline checkpoint for every token the lexer
+     * produces and every token the parser, or its lookahead, consumes
+     */
+    private static class DeadlineTokenStream extends CompactTokenStream {
+        private final Deadline deadline;
+
+        DeadlineTokenStream(TokenSource lexer, Deadline deadline) {
+            super(lexer);
+            this.deadline = deadline;
+        }
+
+        @Override
+        protected Token fetch() {
+            deadline.check();
+            return super.fetch();
+        }
+
+        @Override
+        public void consume() {
+            deadline.check();
+            super.consume();
+        }
+    }
+
+    /**
+     * Parses tokens lexed elsewhere without reporting errors, as IncrementalParser
+     * does for the classes an edit touched
+     * @return  The program, null after a syntax error or if it nests too deeply
+     */
+    AST.program parse(TokenSource source, String filename, Deadline deadline) {
+        DfaCache.check();
+        try {
+            CompactTokenStream tokens = new DeadlineTokenStream(source, deadline);
+            tokens.fill();
+            return parse(tokens, filename, new ErrorHandler(null), deadline);
+        } catch (StackOverflowError e) {
+            return null;
+        } finally {
+            DfaCache.check();
+        }
+    }
+
+    /**
+     * Diagnostic of a program nested too deeply for the stack of the analysis
+     */
+    private static Diagnostic tooDeep(String filename) {
+        return new Diagnostic(Diagnostic.Kind.DEPTH, filename, -1, "Expressions nested too deeply to analyze");
+    }
+
+    /**
+     * Parses the tokens, returns null after a syntax error
+     */
+    private AST.program parse(CompactTokenStream tokens, String filename, ErrorHandler errors, Deadline deadline) {
+        if (parseMode != ParseMode.LL) {
+            AST.program program;
+            if (parseMode == ParseMode.FAST)
+                program = parseFast(tokens, filename);
+            else if (parallelParse())
+                program = new ParallelParser(tokens, filename, deadline).parse();
+            else
+                program = parseSLL(tokens, filename);
+            if (program != null) return program;
+            tokens.seek(0);
+        }
+        return parseLL(tokens, filename, errors);
+    }
+
+    /**
+     * Whether the classes are parsed on several cores, which needs all the tokens
+     * of a source buffered
+     */
+    private boolean parallelParse() {
+        return parseMode == ParseMode.PARALLEL && ForkJoinPool.getCommonPoolParallelism() > 1;
+    }
+
+    /**
+     * Parses the tokens with FastCoolParser, which reports no errors. Returns
+     * null at the first syntax error, the parse must then be redone in LL mode
+     * for the diagnostics.
+     */
+    private AST.program parseFast(TokenStream tokens, String filename) {
+        try {
+            return new FastCoolParser(tokens, filename).program();
+        } catch (Deadline.Expired | MappedCharStream.NonAsciiInput e) {
+            throw e;
+        } catch (RuntimeException e) {
+            // An int constant out of range, which the actions of CoolParser fail on too
+            return null;
+        }
+    }
+
+    /**
+     * Parses the tokens in SLL prediction mode, which never falls back to full
+     * context prediction, without reporting errors. Returns null at the first
+     * syntax error, which may also be SLL failing on a valid program; the parse
+     * must then be redone in LL mode, as the actions may have built part of the
+     * AST on a wrong prediction.
+     */
+    private AST.program parseSLL(TokenStream tokens, String filename) {
+        CoolParser parser = new CoolParser(tokens);
+        parser.setBuildParseTree(false);
+        parser.removeErrorListeners();
+        parser.setErrorHandler(new BailErrorStrategy());
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        parser.setFilename(filename);
+        try {
+            return parser.program().value;
+        } catch (Deadline.Expired | MappedCharStream.NonAsciiInput e) {
+            throw e;
+        } catch (RuntimeException e) {
+            // ParseCancellationException, or an action that failed on a wrong prediction
+            return null;
+        }
+    }
+
+    /**
+     * Parses the tokens in LL prediction mode, reporting the first syntax error
+     */
+    private AST.program parseLL(TokenStream tokens, String filename, ErrorHandler errors) {
+        CoolParser parser = new CoolParser(tokens);
+        parser.setBuildParseTree(false); // The grammar actions build the AST
+        SemanticTest.ParserError parserError = new SemanticTest.ParserError(filename, errors);
+        parser.removeErrorListeners();
+        parser.addErrorListener(parserError);
+        parser.setFilename(filename);
+
+        CoolParser.ProgramContext prog = null;
+        try {
+            prog = parser.program();
+        } catch (Deadline.Expired | MappedCharStream.NonAsciiInput e) {
+            throw e;
+        } catch (Exception e) {
+            // ParserError stops the parse at the first syntax error
+        }
+        if (parserError.parser_error_flag == 1 || prog == null)
+            return null;
+        return prog.value;
+    }
+
+    /**
+     * Merges the parsed files into one program and runs the semantic passes on it.
+     * If any file failed to read, lex or parse, the diagnostics of all files are
+     * returned in file order and the semantic passes are skipped.
+     */
+    AnalysisResult analyzeUnits(List<ParsedUnit> units) {
+        return analyzeUnits(units, newDeadline());
+    }
+
+    AnalysisResult analyzeUnits(List<ParsedUnit> units, Deadline deadline) {
+        ErrorHandler errors = new ErrorHandler(null);
+        AnalysisResult.Outcome frontEnd = AnalysisResult.Outcome.PASSED;
+        List<AST.class_> classes = new ArrayList<AST.class_>();
+        List<String> names = new ArrayList<String>();
+
+        for (ParsedUnit unit : units) {
+            names.add(unit.filename);
+            for (Diagnostic d : unit.diagnostics)
+                errors.report(d);
+            // The earliest failing stage over all files decides the outcome, a timeout beats all
+            if (unit.outcome != AnalysisResult.Outcome.PASSED
+                && (frontEnd == AnalysisResult.Outcome.PASSED || unit.outcome.compareTo(frontEnd) < 0))
+                frontEnd = unit.outcome;
+            if (unit.classes != null)
+                classes.addAll(unit.classes);
+        }
+        String filename = String.join(", ", names);
+        if (frontEnd != AnalysisResult.Outcome.PASSED)
+            return new AnalysisResult(filename, frontEnd, null, null, errors.getDiagnostics());
+        if (classes.isEmpty()) {
+            errors.report(new Diagnostic(Diagnostic.Kind.IO, filename, -1, "No files to analyze"));
+            return new AnalysisResult(filename, AnalysisResult.Outcome.READ_ERROR, null, null, errors.getDiagnostics());
+        }
+
+        AST.program program = new AST.program(classes, classes.get(0).lineNo);
+        Semantic semanticAnalyzer;
+        try {
+            semanticAnalyzer = new Semantic(program, errors, deadline);
+        } catch (Deadline.Expired e) {
+            errors.report(new Diagnostic(Diagnostic.Kind.TIMEOUT, filename, -1, e.getMessage()));
+            return new AnalysisResult(filename, AnalysisResult.Outcome.TIMED_OUT, null, null, errors.getDiagnostics());
+        } catch (StackOverflowError e) {
+            errors.report(tooDeep(filename));
+            return new AnalysisResult(filename, AnalysisResult.Outcome.SEMANTIC_ERROR, null, null, errors.getDiagnostics());
+        }
+        AnalysisResult.Outcome outcome = errors.getErrorFlag() ? AnalysisResult.Outcome.SEMANTIC_ERROR
+                                                               : AnalysisResult.Outcome.PASSED;
+        return new AnalysisResult(filename, outcome, program, semanticAnalyzer.getClassGraph(), errors.getDiagnostics());
+    }
+}
@@ -0,0 +1,90 @@
+package cool;
+
+/**
+ * Time budget of one analysis.
+ *
+ * The lexer loop, the parser and the semantic check pass call check() at their
+ * checkpoints. Once the budget is spent, cancel() was called or the analyzing
+ * thread was interrupted, check() throws Expired, which CoolAnalyzer turns into
+ * a timeout diagnostic. A deadline may be shared by the threads parsing the files
+ * of one program: when one of them expires it, the others stop at their next
+ * checkpoint.
+ */
+public class Deadline {
+
+    /**
+     * Checkpoints passed between two reads of the clock
+     */
+    private static final int CLOCK_INTERVAL = 256;
+
+    private final long budgetNanos;     // 0 if unlimited
+    private final long start;
+    private volatile boolean cancelled;
+    private int checks;                 // Racy when shared, only paces the clock reads
+
+    private Deadline(long budgetNanos) {
+        this.budgetNanos = budgetNanos;
+        this.start = System.nanoTime();
+    }
+
+    /**
+     * A deadline that only expires when cancelled or interrupted
+     * @return
+     */
+    public static Deadline unlimited() {
+        return new Deadline(0);
+    }
+
+    /**
+     * A deadline expiring the given time from now
+     * @param millis    Budget, 0 for unlimited
+     * @return
+     */
+    public static Deadline after(long millis) {
+        return new Deadline(millis * 1000000);
+    }
+
+    public long getBudgetMillis() {
+        return budgetNanos / 1000000;
+    }
+
+    /**
+     * Makes the analysis stop at its next checkpoint
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isExpired() {
+        return cancelled || (budgetNanos > 0 && System.nanoTime() - start > budgetNanos);
+    }
+
+    /**
+     * Checkpoint: throws Expired once the analysis is over its budget or cancelled
+     */
+    public void check() {
+        if (cancelled) throw new Expired(message());
+        if (++checks % CLOCK_INTERVAL != 0) return;
+        if (Thread.currentThread().isInterrupted() || isExpired()) {
+            cancelled = true;
+            throw new Expired(message());
+        }
+    }
+
+    private String message() {
+        if (budgetNanos > 0 && System.nanoTime() - start > budgetNanos)
+            return "analysis timed out after " + getBudgetMillis() + " ms";
+        return "analysis cancelled";
+    }
+
+    /**
+     * Thrown at the first checkpoint past the deadline
+     */
+    public static class Expired extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        Expired(String message) {
+            super(message, null, false, false);
+        }
+    }
+}
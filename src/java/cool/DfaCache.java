@@ -0,0 +1,170 @@
+package cool;
+
+import java.lang.reflect.Field;
+import java.nio.file.Paths;
+import java.util.Map;
+
+import org.antlr.v4.runtime.atn.ATN;
+import org.antlr.v4.runtime.atn.PredictionContextCache;
+import org.antlr.v4.runtime.dfa.DFA;
+
+/**
+ * Size metrics and a ceiling for the prediction caches CoolLexer and CoolParser
+ * share for the life of the JVM.
+ *
+ * ANTLR adds a DFA state for every new lookahead path it predicts, and keeps the
+ * prediction contexts of the parser DFA states in a shared cache, so in a long
+ * running process fed odd inputs they grow without bound. CoolAnalyzer calls
+ * check before and after every parse; when the DFAs have more states than the
+ * ceiling set by the cool.dfaLimit property, every DFA is replaced by an empty
+ * one, or by the one of the snapshot named by cool.dfa, and the context cache
+ * is emptied. The ceiling only holds between parses: a parse running meanwhile
+ * grows the DFAs as far as its input takes them, and the next check cuts them.
+ *
+ * A reset is safe under concurrent parsers. The recognizers look their DFA up
+ * in the shared arrays at every prediction, so a prediction running during the
+ * reset finishes on the DFA it started with, which is then dropped, and the
+ * next one starts on the new DFA. The context cache only maps contexts to an
+ * equal canonical one and is emptied under the lock ANTLR takes to use it.
+ */
+public final class DfaCache {
+
+    /** System property with the most DFA states kept, 0 or unset for no limit */
+    public static final String PROPERTY = "cool.dfaLimit";
+
+    private static final long LIMIT = Long.getLong(PROPERTY, 0);
+
+    /** The map of PredictionContextCache, null if this runtime does not let us reach it */
+    private static final Field CONTEXT_MAP = contextMap();
+
+    private static int resets = 0;
+
+    private DfaCache() {
+    }
+
+    /**
+     * Sizes of the caches at one point
+     */
+    public static final class Stats {
+        public final int lexerStates;
+        public final int parserStates;
+        public final int contexts;      // Entries of the parser context cache
+        public final int resets;        // Since the start of the JVM
+
+        Stats(int lexerStates, int parserStates, int contexts, int resets) {
+            this.lexerStates = lexerStates;
+            this.parserStates = parserStates;
+            this.contexts = contexts;
+            this.resets = resets;
+        }
+
+        public int states() {
+            return lexerStates + parserStates;
+        }
+
+        @Override
+        public String toString() {
+            return "DFA states: " + lexerStates + " lexer, " + parserStates + " parser; " + contexts
+                   + " cached contexts" + (CONTEXT_MAP == null ? " (kept by resets)" : "") + "; " + resets
+                   + " resets";
+        }
+    }
+
+    public static Stats stats() {
+        int contexts;
+        synchronized (CoolParser._sharedContextCache) {
+            contexts = CoolParser._sharedContextCache.size();
+        }
+        synchronized (DfaCache.class) {
+            return new Stats(states(CoolLexer._decisionToDFA), states(CoolParser._decisionToDFA), contexts, resets);
+        }
+    }
+
+    private static int states(DFA[] dfas) {
+        int n = 0;
+        for (DFA dfa : dfas) {
+            synchronized (dfa.states) {
+                n += dfa.states.size();
+            }
+        }
+        return n;
+    }
+
+    /**
+     * Resets the caches if their states exceed the configured ceiling
+     * @return  Whether they were reset
+     */
+    public static boolean check() {
+        return LIMIT > 0 && check(LIMIT);
+    }
+
+    /**
+     * Resets the caches if their states exceed limit
+     * @return  Whether they were reset
+     */
+    public static synchronized boolean check(long limit) {
+        if (states(CoolLexer._decisionToDFA) + states(CoolParser._decisionToDFA) <= limit) return false;
+        reset();
+        String snapshot = System.getProperty(DfaSnapshot.PROPERTY);
+        if (snapshot != null && DfaSnapshot.load(Paths.get(snapshot))
+            && states(CoolLexer._decisionToDFA) + states(CoolParser._decisionToDFA) > limit) {
+            // The snapshot alone is over the limit
+            reset();
+        }
+        return true;
+    }
+
+    /**
+     * Replaces all the DFAs by empty ones and empties the context caches
+     */
+    public static synchronized void reset() {
+        clear(CoolLexer._decisionToDFA, CoolLexer._ATN);
+        clear(CoolParser._decisionToDFA, CoolParser._ATN);
+        clear(CoolLexer._sharedContextCache);
+        clear(CoolParser._sharedContextCache);
+        resets++;
+    }
+
+    private static void clear(DFA[] dfas, ATN atn) {
+        for (int d = 0; d < dfas.length; d++)
+            dfas[d] = new DFA(atn.getDecisionState(d), d);
+    }
+
+    /**
+     * Whether a reset also empties the context caches, see contextMap
+     */
+    public static boolean clearsContexts() {
+        return CONTEXT_MAP != null;
+    }
+
+    /**
+     * PredictionContextCache has no method to empty it, so its private map field
+     * is looked up once here. A runtime that names or types the field otherwise,
+     * or does not allow access to it, gets null: resets then only replace the
+     * DFAs and leave the contexts, as stats shows.
+     */
+    private static Field contextMap() {
+        try {
+            Field field = PredictionContextCache.class.getDeclaredField("cache");
+            if (!Map.class.isAssignableFrom(field.getType())) return null;
+            field.setAccessible(true);
+            return field;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Empties a context cache, if the runtime lets us reach its map
+     */
+    private static void clear(PredictionContextCache cache) {
+        if (CONTEXT_MAP == null) return;
+        synchronized (cache) {
+            try {
+                ((Map<?, ?>) CONTEXT_MAP.get(cache)).clear();
+            } catch (IllegalAccessException e) {
+                // Checked when the field was looked up
+            }
+        }
+    }
+}
@@ -0,0 +1,489 @@
+package cool;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.antlr.v4.runtime.RuntimeMetaData;
+import org.antlr.v4.runtime.atn.ATN;
+import org.antlr.v4.runtime.atn.ATNConfig;
+import org.antlr.v4.runtime.atn.ATNConfigSet;
+import org.antlr.v4.runtime.atn.ATNSimulator;
+import org.antlr.v4.runtime.atn.ATNState;
+import org.antlr.v4.runtime.atn.ArrayPredictionContext;
+import org.antlr.v4.runtime.atn.DecisionState;
+import org.antlr.v4.runtime.atn.LexerATNConfig;
+import org.antlr.v4.runtime.atn.LexerActionExecutor;
+import org.antlr.v4.runtime.atn.LexerAction;
+import org.antlr.v4.runtime.atn.LexerIndexedCustomAction;
+import org.antlr.v4.runtime.atn.PredictionContext;
+import org.antlr.v4.runtime.atn.SemanticContext;
+import org.antlr.v4.runtime.atn.SingletonPredictionContext;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.dfa.DFAState;
+
+/**
+ * Saves the lexer and parser prediction DFAs to a file and loads them back.
+ *
+ * ANTLR builds the DFAs of CoolLexer and CoolParser lazily while it predicts, so
+ * the first files a JVM parses run mostly on the slow ATN simulation. A snapshot
+ * taken after parsing a training corpus lets a fresh JVM start with the warm DFAs.
+ *
+ * The file records the DFA states with their ATN configurations, so states added
+ * after loading merge with the loaded ones as usual. It is tied to the grammar and
+ * runtime it was written with; a snapshot of a different one is ignored.
+ *
+ * Usage: DfaSnapshot <snapshot> <training files, directories or @lists...>
+ */
+public class DfaSnapshot {
+
+    /** System property naming the snapshot the command line tools load at startup */
+    public static final String PROPERTY = "cool.dfa";
+
+    private static final int MAGIC = 0xC001DFA0;
+    private static final int FORMAT = 1;
+
+    // Context, semantic context and state kinds
+    private static final int EMPTY = 0, SINGLETON = 1, ARRAY = 2;
+    private static final int NONE = 0, PREDICATE = 1, PRECEDENCE = 2, AND = 3, OR = 4;
+    private static final int ERROR_STATE = -1, NO_STATE = -2;
+
+    /**
+     * Loads the snapshot named by the cool.dfa system property, if any.
+     * Must run before the first CoolLexer or CoolParser is created.
+     */
+    public static void loadConfigured() {
+        String file = System.getProperty(PROPERTY);
+        if (file != null) load(Paths.get(file));
+    }
+
+    /**
+     * Replaces the shared DFAs of CoolLexer and CoolParser by the ones in the file.
+     * Must run before the first CoolLexer or CoolParser is created.
+     * @param file
+     * @return false if the file is missing, unreadable or was written for another grammar
+     */
+    public static boolean load(Path file) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT
+                || !in.readUTF().equals(RuntimeMetaData.VERSION)
+                || in.readInt() != CoolLexer._serializedATN.hashCode()
+                || in.readInt() != CoolParser._serializedATN.hashCode())
+                return false;
+            DFA[] lexer = new Reader(in, CoolLexer._ATN).readAll();
+            DFA[] parser = new Reader(in, CoolParser._ATN).readAll();
+            if (lexer.length != CoolLexer._decisionToDFA.length || parser.length != CoolParser._decisionToDFA.length)
+                return false;
+            System.arraycopy(lexer, 0, CoolLexer._decisionToDFA, 0, lexer.length);
+            System.arraycopy(parser, 0, CoolParser._decisionToDFA, 0, parser.length);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Writes the current shared DFAs of CoolLexer and CoolParser to the file
+     * @param file
+     * @return number of DFA states written
+     * @throws IOException
+     */
+    public static int save(Path file) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT);
+            out.writeUTF(RuntimeMetaData.VERSION);
+            out.writeInt(CoolLexer._serializedATN.hashCode());
+            out.writeInt(CoolParser._serializedATN.hashCode());
+            int states = new Writer(out, CoolLexer._ATN).writeAll(CoolLexer._decisionToDFA);
+            states += new Writer(out, CoolParser._ATN).writeAll(CoolParser._decisionToDFA);
+            return states;
+        }
+    }
+
+    /**
+     * Writes the DFAs of one recognizer. Prediction contexts and DFA states are
+     * shared graphs, each one is written once and referred to by its index.
+     */
+    private static class Writer {
+        private final DataOutputStream out;
+        private final ATN atn;
+        private final Map<PredictionContext, Integer> contexts = new IdentityHashMap<>();
+        private final List<PredictionContext> contextOrder = new ArrayList<>();
+
+        Writer(DataOutputStream out, ATN atn) {
+            this.out = out;
+            this.atn = atn;
+        }
+
+        int writeAll(DFA[] dfas) throws IOException {
+            // Number the states and contexts first, then write the context table
+            // ahead of the states referring to it
+            List<List<DFAState>> states = new ArrayList<>();
+            for (DFA dfa : dfas) {
+                List<DFAState> list = new ArrayList<>();
+                synchronized (dfa.states) {
+                    list.addAll(dfa.states.values());
+                }
+                // Also the states only reachable through edges, like the start states of
+                // a precedence DFA or states that got replaced by an equal one in the map
+                Map<DFAState, Boolean> seen = new IdentityHashMap<>();
+                for (DFAState s : list) seen.put(s, true);
+                if (dfa.s0 != null && seen.put(dfa.s0, true) == null) list.add(dfa.s0);
+                for (int i = 0; i < list.size(); i++) {
+                    DFAState[] edges = list.get(i).edges;
+                    if (edges == null) continue;
+                    for (DFAState t : edges) {
+                        if (t != null && t != ATNSimulator.ERROR && seen.put(t, true) == null) list.add(t);
+                    }
+                }
+                for (DFAState s : list) {
+                    for (ATNConfig c : s.configs) number(c.context);
+                }
+                states.add(list);
+            }
+            writeContexts();
+
+            int total = 0;
+            out.writeInt(dfas.length);
+            for (int d = 0; d < dfas.length; d++) {
+                List<DFAState> list = states.get(d);
+                Map<DFAState, Integer> ids = new IdentityHashMap<>();
+                for (DFAState s : list) ids.put(s, ids.size());
+
+                out.writeInt(list.size());
+                for (DFAState s : list) writeState(s, dfas[d]);
+                for (DFAState s : list) writeEdges(s, ids);
+                out.writeInt(dfas[d].s0 == null ? NO_STATE : ids.get(dfas[d].s0));
+                total += list.size();
+            }
+            return total;
+        }
+
+        private void number(PredictionContext ctx) {
+            if (ctx == null || contexts.containsKey(ctx)) return;
+            for (int i = 0; i < ctx.size(); i++) number(ctx.getParent(i));
+            contexts.put(ctx, contextOrder.size());
+            contextOrder.add(ctx);
+        }
+
+        private void writeContexts() throws IOException {
+            out.writeInt(contextOrder.size());
+            for (PredictionContext ctx : contextOrder) {
+                if (ctx == PredictionContext.EMPTY) {
+                    out.writeByte(EMPTY);
+                    continue;
+                }
+                out.writeByte(ctx instanceof ArrayPredictionContext ? ARRAY : SINGLETON);
+                out.writeInt(ctx.size());
+                for (int i = 0; i < ctx.size(); i++) {
+                    PredictionContext parent = ctx.getParent(i);
+                    out.writeInt(parent == null ? -1 : contexts.get(parent));
+                    out.writeInt(ctx.getReturnState(i));
+                }
+            }
+        }
+
+        private void writeState(DFAState s, DFA dfa) throws IOException {
+            out.writeBoolean(dfa.states.containsKey(s));
+            out.writeInt(s.stateNumber);
+            out.writeBoolean(s.isAcceptState);
+            out.writeInt(s.prediction);
+            out.writeBoolean(s.requiresFullContext);
+            writeExecutor(s.lexerActionExecutor);
+            if (s.predicates == null) {
+                out.writeInt(-1);
+            } else {
+                out.writeInt(s.predicates.length);
+                for (DFAState.PredPrediction p : s.predicates) {
+                    writeSemantic(p.pred);
+                    out.writeInt(p.alt);
+                }
+            }
+
+            ATNConfigSet configs = s.configs;
+            out.writeBoolean(configs.fullCtx);
+            out.writeInt(configs.uniqueAlt);
+            out.writeBoolean(configs.hasSemanticContext);
+            out.writeBoolean(configs.dipsIntoOuterContext);
+            out.writeInt(configs.size());
+            for (ATNConfig c : configs) {
+                out.writeInt(c.state.stateNumber);
+                out.writeInt(c.alt);
+                out.writeInt(contexts.get(c.context));
+                out.writeInt(c.reachesIntoOuterContext);
+                writeSemantic(c.semanticContext);
+                boolean lexer = c instanceof LexerATNConfig;
+                out.writeBoolean(lexer);
+                if (lexer) {
+                    LexerATNConfig lc = (LexerATNConfig) c;
+                    out.writeBoolean(lc.hasPassedThroughNonGreedyDecision());
+                    writeExecutor(lc.getLexerActionExecutor());
+                }
+            }
+        }
+
+        private void writeEdges(DFAState s, Map<DFAState, Integer> ids) throws IOException {
+            DFAState[] edges = s.edges;
+            if (edges == null) {
+                out.writeInt(-1);
+                return;
+            }
+            out.writeInt(edges.length);
+            int count = 0;
+            for (DFAState t : edges) {
+                if (t != null) count++;
+            }
+            out.writeInt(count);
+            for (int i = 0; i < edges.length; i++) {
+                DFAState t = edges[i];
+                if (t == null) continue;
+                out.writeInt(i);
+                out.writeInt(t == ATNSimulator.ERROR ? ERROR_STATE : ids.get(t));
+            }
+        }
+
+        private void writeExecutor(LexerActionExecutor executor) throws IOException {
+            if (executor == null) {
+                out.writeInt(-1);
+                return;
+            }
+            LexerAction[] actions = executor.getLexerActions();
+            out.writeInt(actions.length);
+            for (LexerAction action : actions) {
+                int offset = -1;
+                if (action instanceof LexerIndexedCustomAction) {
+                    offset = ((LexerIndexedCustomAction) action).getOffset();
+                    action = ((LexerIndexedCustomAction) action).getAction();
+                }
+                int index = Arrays.asList(atn.lexerActions).indexOf(action);
+                if (index < 0) throw new IllegalStateException("Lexer action not in the ATN: " + action);
+                out.writeInt(index);
+                out.writeInt(offset);
+            }
+        }
+
+        private void writeSemantic(SemanticContext ctx) throws IOException {
+            if (ctx == SemanticContext.NONE) {
+                out.writeByte(NONE);
+            } else if (ctx instanceof SemanticContext.Predicate) {
+                SemanticContext.Predicate p = (SemanticContext.Predicate) ctx;
+                out.writeByte(PREDICATE);
+                out.writeInt(p.ruleIndex);
+                out.writeInt(p.predIndex);
+                out.writeBoolean(p.isCtxDependent);
+            } else if (ctx instanceof SemanticContext.PrecedencePredicate) {
+                out.writeByte(PRECEDENCE);
+                out.writeInt(((SemanticContext.PrecedencePredicate) ctx).precedence);
+            } else {
+                SemanticContext[] operands = ctx instanceof SemanticContext.AND
+                                             ? ((SemanticContext.AND) ctx).opnds
+                                             : ((SemanticContext.OR) ctx).opnds;
+                out.writeByte(ctx instanceof SemanticContext.AND ? AND : OR);
+                out.writeInt(operands.length);
+                for (SemanticContext operand : operands) writeSemantic(operand);
+            }
+        }
+    }
+
+    /**
+     * Reads back the DFAs written by Writer
+     */
+    private static class Reader {
+        private final DataInputStream in;
+        private final ATN atn;
+        private PredictionContext[] contexts;
+        private DecisionState nonGreedy;
+
+        Reader(DataInputStream in, ATN atn) {
+            this.in = in;
+            this.atn = atn;
+        }
+
+        DFA[] readAll() throws IOException {
+            readContexts();
+            DFA[] dfas = new DFA[in.readInt()];
+            for (int d = 0; d < dfas.length; d++) {
+                DFA dfa = new DFA(atn.getDecisionState(d), d);
+                DFAState[] states = new DFAState[in.readInt()];
+                boolean[] inMap = new boolean[states.length];
+                for (int i = 0; i < states.length; i++) {
+                    inMap[i] = in.readBoolean();
+                    states[i] = readState();
+                }
+                for (DFAState s : states) readEdges(s, states);
+                for (int i = 0; i < states.length; i++) {
+                    if (inMap[i]) dfa.states.putIfAbsent(states[i], states[i]);
+                }
+                int s0 = in.readInt();
+                if (s0 != NO_STATE) dfa.s0 = states[s0];
+                dfas[d] = dfa;
+            }
+            return dfas;
+        }
+
+        private void readContexts() throws IOException {
+            contexts = new PredictionContext[in.readInt()];
+            for (int i = 0; i < contexts.length; i++) {
+                int kind = in.readByte();
+                if (kind == EMPTY) {
+                    contexts[i] = PredictionContext.EMPTY;
+                    continue;
+                }
+                int size = in.readInt();
+                PredictionContext[] parents = new PredictionContext[size];
+                int[] returnStates = new int[size];
+                for (int j = 0; j < size; j++) {
+                    int parent = in.readInt();
+                    parents[j] = parent < 0 ? null : contexts[parent];
+                    returnStates[j] = in.readInt();
+                }
+                contexts[i] = kind == ARRAY ? new ArrayPredictionContext(parents, returnStates)
+                                            : SingletonPredictionContext.create(parents[0], returnStates[0]);
+            }
+        }
+
+        private DFAState readState() throws IOException {
+            int stateNumber = in.readInt();
+            boolean accept = in.readBoolean();
+            int prediction = in.readInt();
+            boolean fullContext = in.readBoolean();
+            LexerActionExecutor executor = readExecutor();
+            DFAState.PredPrediction[] predicates = null;
+            int n = in.readInt();
+            if (n >= 0) {
+                predicates = new DFAState.PredPrediction[n];
+                for (int i = 0; i < n; i++) {
+                    SemanticContext pred = readSemantic();
+                    predicates[i] = new DFAState.PredPrediction(pred, in.readInt());
+                }
+            }
+
+            // The conflicting alternatives are left out: once the state is built ANTLR only
+            // passes them on to error listeners
+            ATNConfigSet configs = new ATNConfigSet(in.readBoolean());
+            configs.uniqueAlt = in.readInt();
+            configs.hasSemanticContext = in.readBoolean();
+            configs.dipsIntoOuterContext = in.readBoolean();
+            int size = in.readInt();
+            for (int i = 0; i < size; i++) {
+                ATNState state = atn.states.get(in.readInt());
+                int alt = in.readInt();
+                PredictionContext context = contexts[in.readInt()];
+                int outer = in.readInt();
+                SemanticContext semantic = readSemantic();
+                ATNConfig c;
+                if (in.readBoolean()) {
+                    boolean passedNonGreedy = in.readBoolean();
+                    c = lexerConfig(state, alt, context, readExecutor(), passedNonGreedy);
+                } else {
+                    c = new ATNConfig(state, alt, context, semantic);
+                }
+                c.reachesIntoOuterContext = outer;
+                // Appended as is: the configurations were merged when the state was built
+                configs.configs.add(c);
+            }
+            configs.setReadonly(true);
+
+            DFAState s = new DFAState(configs);
+            s.stateNumber = stateNumber;
+            s.isAcceptState = accept;
+            s.prediction = prediction;
+            s.requiresFullContext = fullContext;
+            s.lexerActionExecutor = executor;
+            s.predicates = predicates;
+            return s;
+        }
+
+        /**
+         * The non-greedy flag of a lexer configuration can only be set by moving
+         * it through a non-greedy decision state, so the restored one takes that detour.
+         */
+        private LexerATNConfig lexerConfig(ATNState state, int alt, PredictionContext context,
+                                           LexerActionExecutor executor, boolean passedNonGreedy) {
+            if (!passedNonGreedy) return new LexerATNConfig(state, alt, context, executor);
+            if (nonGreedy == null) {
+                for (ATNState s : atn.states) {
+                    if (s instanceof DecisionState && ((DecisionState) s).nonGreedy) {
+                        nonGreedy = (DecisionState) s;
+                        break;
+                    }
+                }
+            }
+            LexerATNConfig c = new LexerATNConfig(nonGreedy, alt, context, executor);
+            return new LexerATNConfig(new LexerATNConfig(c, nonGreedy), state);
+        }
+
+        private void readEdges(DFAState s, DFAState[] states) throws IOException {
+            int length = in.readInt();
+            if (length < 0) return;
+            s.edges = new DFAState[length];
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                int index = in.readInt();
+                int target = in.readInt();
+                s.edges[index] = target == ERROR_STATE ? ATNSimulator.ERROR : states[target];
+            }
+        }
+
+        private LexerActionExecutor readExecutor() throws IOException {
+            int n = in.readInt();
+            if (n < 0) return null;
+            LexerAction[] actions = new LexerAction[n];
+            for (int i = 0; i < n; i++) {
+                LexerAction action = atn.lexerActions[in.readInt()];
+                int offset = in.readInt();
+                actions[i] = offset < 0 ? action : new LexerIndexedCustomAction(offset, action);
+            }
+            return new LexerActionExecutor(actions);
+        }
+
+        private SemanticContext readSemantic() throws IOException {
+            int kind = in.readByte();
+            switch (kind) {
+            case NONE:
+                return SemanticContext.NONE;
+            case PREDICATE:
+                return new SemanticContext.Predicate(in.readInt(), in.readInt(), in.readBoolean());
+            case PRECEDENCE:
+                return new SemanticContext.PrecedencePredicate(in.readInt());
+            default:
+                int n = in.readInt();
+                SemanticContext result = readSemantic();
+                for (int i = 1; i < n; i++) {
+                    SemanticContext operand = readSemantic();
+                    result = kind == AND ? new SemanticContext.AND(result, operand)
+                                         : new SemanticContext.OR(result, operand);
+                }
+                return result;
+            }
+        }
+    }
+
+    /**
+     * Trains the DFAs on the given files and saves them
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: DfaSnapshot <snapshot> <training files, directories or @lists...>");
+            System.exit(1);
+        }
+        List<String> files = SemanticTest.collectFiles(Arrays.copyOfRange(args, 1, args.length));
+        CoolAnalyzer analyzer = new CoolAnalyzer();
+        for (String f : files) {
+            analyzer.parse(Paths.get(f));
+        }
+        int states = save(Paths.get(args[0]));
+        System.out.println("Saved " + states + " DFA states trained on " + files.size() + " files to " + args[0]);
+    }
+}
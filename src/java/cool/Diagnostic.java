@@ -0,0 +1,78 @@
+package cool;
+
+/**
+ * A single error found while analyzing a program.
+ * toString() gives the line exactly as the command line driver prints it.
+ */
+public class Diagnostic {
+
+    public enum Kind {
+        IO,         // The source could not be read
+        LEXICAL,    // ERROR token produced by the lexer
+        SYNTAX,     // Reported by the parser
+        SEMANTIC,   // Reported by the semantic passes
+        TIMEOUT,    // The analysis ran out of its time budget or was cancelled
+        DEPTH,      // The program nests deeper than the stack of the analysis goes
+        RECOGNITION // Input matching no lexer rule, which ends the tokens; does not fail the analysis
+    }
+
+    private final Kind kind;
+    private final String filename;
+    private final int lineNo;
+    private final int column;
+    private final String message;
+
+    public Diagnostic(Kind kind, String filename, int lineNo, String message) {
+        this(kind, filename, lineNo, -1, message);
+    }
+
+    public Diagnostic(Kind kind, String filename, int lineNo, int column, String message) {
+        this.kind = kind;
+        this.filename = filename;
+        this.lineNo = lineNo;
+        this.column = column;
+        this.message = message;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public String getFilename() {
+        return filename;
+    }
+
+    public int getLineNo() {
+        return lineNo;
+    }
+
+    /**
+     * @return  The column of a RECOGNITION diagnostic, -1 for the other kinds
+     */
+    public int getColumn() {
+        return column;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public String toString() {
+        switch (kind) {
+            case IO:
+                return message;
+            case LEXICAL:
+                return "Lexical error at " + lineNo + ": " + message;
+            case SYNTAX:
+                return "\"" + filename + "\", line " + lineNo + ": " + message;
+            case TIMEOUT:
+            case DEPTH:
+                return filename + ": " + message;
+            case RECOGNITION:
+                return "line " + lineNo + ":" + column + " " + message;
+            default:
+                return filename + ":" + lineNo + ": " + message;
+        }
+    }
+}
@@ -1,14 +1,44 @@
 package cool;
 
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Collects the errors of one analysis run. Every run gets its own handler,
+ * so several programs can be analyzed at the same time.
+ */
 public class ErrorHandler {
     
-	private static boolean errorFlag = false;
-	public static void reportError(String filename, int lineNo, String error){
-		errorFlag = true;
-		System.err.println(filename+":"+lineNo+": "+error);
+	private boolean errorFlag = false;
+	private final PrintStream err;
+	private final List<Diagnostic> diagnostics = new ArrayList<Diagnostic>();
+	public ErrorHandler(){
+		this(System.err);
+	}
+	/**
+	 * @param err Stream every diagnostic is echoed to as it is reported, null to only collect them
+	 */
+	public ErrorHandler(PrintStream err){
+		this.err = err;
+	}
+	public void reportError(String filename, int lineNo, String error){
+		report(new Diagnostic(Diagnostic.Kind.SEMANTIC, filename, lineNo, error));
 	}
-	public static boolean getErrorFlag(){
+	public void report(Diagnostic diagnostic){
+		// What follows the end of the tokens at a recognition error decides the outcome
+		if (diagnostic.getKind() != Diagnostic.Kind.RECOGNITION)
+			errorFlag = true;
+		diagnostics.add(diagnostic);
+		if (err != null)
+			err.println(diagnostic);
+	}
+	public boolean getErrorFlag(){
 		return errorFlag;
 	}
+	public List<Diagnostic> getDiagnostics(){
+		return Collections.unmodifiableList(diagnostics);
+	}
 
 }
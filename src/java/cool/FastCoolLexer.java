@@ -0,0 +1,500 @@
+package cool;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.antlr.v4.runtime.ANTLRErrorListener;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CommonTokenFactory;
+import org.antlr.v4.runtime.ConsoleErrorListener;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenFactory;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.misc.Interval;
+import org.antlr.v4.runtime.misc.Pair;
+
+/**
+ * Hand-written lexer producing exactly the tokens of the generated CoolLexer.
+ *
+ * CoolLexer simulates its ATN, or walks the DFA built from it, one char at a
+ * time and re-enters the simulator for every piece of a string or comment glued
+ * together with more(). This lexer dispatches on the first char through a table
+ * and then runs one loop per lexeme: identifiers, whitespace, whole nested
+ * comments and whole strings, with the escapes resolved on the way. Keywords are
+ * found with a perfect hash of the identifier length and its first and last char.
+ *
+ * Token types, texts, lines, columns and char indexes are those of CoolLexer,
+ * including the ERROR tokens of its custom actions, the skipping of the rest of
+ * a string after a null char and the recognition error of a backslash at EOF,
+ * which goes to the error listeners as CoolLexer's does.
+ * Chars are read from the CharStream in windows, its index is left alone.
+ * TYPEID and OBJECTID tokens carry the canonical text of their name, see Symbols.
+ */
+public class FastCoolLexer implements TokenSource {
+
+    private static final int EOF = -1;
+    private static final int WINDOW = 8192;
+
+    // First char classes of DEFAULT_MODE, positive values are single char tokens
+    private static final byte ERROR = 0;
+    private static final byte UPPER = -1;
+    private static final byte LOWER = -2;
+    private static final byte DIGIT = -3;
+    private static final byte SPACE = -4;
+    private static final byte QUOTE = -5;
+    private static final byte LPAREN = -6;   // ( (*
+    private static final byte STAR = -7;     // * *)
+    private static final byte MINUS = -8;    // - --
+    private static final byte LT = -9;       // < <= <-
+    private static final byte EQUALS = -10;  // = =>
+
+    private static final byte[] START = new byte[128];
+    private static final boolean[] IDENT = new boolean[128];
+
+    static {
+        for (char c = 'A'; c <= 'Z'; c++) START[c] = UPPER;
+        for (char c = 'a'; c <= 'z'; c++) START[c] = LOWER;
+        for (char c = '0'; c <= '9'; c++) START[c] = DIGIT;
+        for (char c = '\t'; c <= '\r'; c++) START[c] = SPACE;
+        START[' '] = SPACE;
+        START['"'] = QUOTE;
+        START['('] = LPAREN;
+        START['*'] = STAR;
+        START['-'] = MINUS;
+        START['<'] = LT;
+        START['='] = EQUALS;
+        START[')'] = CoolLexer.RPAREN;
+        START[':'] = CoolLexer.COLON;
+        START['@'] = CoolLexer.ATSYM;
+        START[';'] = CoolLexer.SEMICOLON;
+        START[','] = CoolLexer.COMMA;
+        START['+'] = CoolLexer.PLUS;
+        START['/'] = CoolLexer.SLASH;
+        START['~'] = CoolLexer.TILDE;
+        START['{'] = CoolLexer.LBRACE;
+        START['}'] = CoolLexer.RBRACE;
+        START['.'] = CoolLexer.DOT;
+        for (int c = 0; c < 128; c++)
+            IDENT[c] = START[c] == UPPER || START[c] == LOWER || START[c] == DIGIT || c == '_';
+    }
+
+    // Keywords in lower case by perfect hash slot, see hash()
+    private static final String[] KEYWORDS = new String[32];
+    private static final int[] KEYWORD_TYPES = new int[32];
+
+    static {
+        String[] words = { "class", "else", "fi", "if", "in", "inherits", "isvoid", "let", "loop", "pool",
+                           "then", "while", "case", "esac", "new", "not", "of", "true", "false" };
+        int[] types = { CoolLexer.CLASS, CoolLexer.ELSE, CoolLexer.FI, CoolLexer.IF, CoolLexer.IN,
+                        CoolLexer.INHERITS, CoolLexer.ISVOID, CoolLexer.LET, CoolLexer.LOOP, CoolLexer.POOL,
+                        CoolLexer.THEN, CoolLexer.WHILE, CoolLexer.CASE, CoolLexer.ESAC, CoolLexer.NEW,
+                        CoolLexer.NOT, CoolLexer.OF, CoolLexer.BOOL_CONST, CoolLexer.BOOL_CONST };
+        for (int i = 0; i < words.length; i++) {
+            String w = words[i];
+            int h = hash(w.length(), w.charAt(0), w.charAt(w.length() - 1));
+            if (KEYWORDS[h] != null) throw new AssertionError("keyword hash collision: " + w);
+            KEYWORDS[h] = w;
+            KEYWORD_TYPES[h] = types[i];
+        }
+    }
+
+    private static int hash(int length, int first, int last) {
+        return (length + 8 * (first | 0x20) + 5 * (last | 0x20)) & 31;
+    }
+
+    private final CharStream input;
+    private final int n;
+    private final Pair<TokenSource, CharStream> source;
+    private TokenFactory<?> factory = CommonTokenFactory.DEFAULT;
+    private final List<ANTLRErrorListener> listeners = new ArrayList<ANTLRErrorListener>();
+
+    // Chars [bufStart, bufEnd) of the input
+    private char[] buf = new char[WINDOW];
+    private int bufStart = 0;
+    private int bufEnd = 0;
+
+    private int p = 0;          // Next char
+    private int mark = 0;       // First char the window must keep, at most p
+    private int line = 1;
+    private int col = 0;
+    private int start;          // Current token
+    private int startLine;
+    private int startCol;
+    private boolean skipString; // CoolLexer's ERR mode: rest of a string with a null char
+    private boolean hitEOF;
+
+    public FastCoolLexer(CharStream input) {
+        this(input, 0, 1);
+    }
+
+    /**
+     * A lexer starting in DEFAULT_MODE at the first column of the given line,
+     * which begins at char index from
+     */
+    FastCoolLexer(CharStream input, int from, int line) {
+        this(input, from, line, 0, Lexer.DEFAULT_MODE);
+    }
+
+    /**
+     * A lexer starting at char index from, at the given line and column, in
+     * DEFAULT_MODE or in CoolLexer.ERR
+     */
+    FastCoolLexer(CharStream input, int from, int line, int col, int mode) {
+        this.input = input;
+        this.n = input.size();
+        this.source = new Pair<TokenSource, CharStream>(this, input);
+        this.listeners.add(ConsoleErrorListener.INSTANCE);
+        this.p = this.mark = this.bufStart = this.bufEnd = from;
+        this.line = line;
+        this.col = col;
+        this.skipString = mode == CoolLexer.ERR;
+    }
+
+    /**
+     * Index of the next char to lex
+     */
+    int position() {
+        return p;
+    }
+
+    /**
+     * Mode CoolLexer would be in at the next char: CoolLexer.ERR while skipping
+     * the rest of a string with a null char, DEFAULT_MODE otherwise
+     */
+    int mode() {
+        return skipString ? CoolLexer.ERR : Lexer.DEFAULT_MODE;
+    }
+
+    private int la(int i) {
+        if (i >= n) return EOF;
+        if (i >= bufEnd) fill(i);
+        return buf[i - bufStart];
+    }
+
+    /**
+     * Slides the window to start at mark and to hold char i
+     */
+    private void fill(int i) {
+        int keep = bufEnd - mark;
+        if (i - mark >= buf.length - WINDOW / 2) {
+            char[] bigger = new char[Math.max(2 * buf.length, i - mark + WINDOW)];
+            System.arraycopy(buf, mark - bufStart, bigger, 0, keep);
+            buf = bigger;
+        } else {
+            System.arraycopy(buf, mark - bufStart, buf, 0, keep);
+        }
+        bufStart = mark;
+        int end = Math.min(n, bufStart + buf.length);
+        input.getText(Interval.of(bufEnd, end - 1)).getChars(0, end - bufEnd, buf, keep);
+        bufEnd = end;
+    }
+
+    /**
+     * Consumes one char, counting lines as the ATN simulator does
+     */
+    private void advance(int c) {
+        p++;
+        if (c == '\n') {
+            line++;
+            col = 0;
+        } else {
+            col++;
+        }
+    }
+
+    @Override
+    public Token nextToken() {
+        return nextToken(Integer.MAX_VALUE);
+    }
+
+    /**
+     * The next token, or null if it would start at or after limit in
+     * DEFAULT_MODE. The lexer can go on after null.
+     */
+    Token nextToken(int limit) {
+        while (true) {
+            if (hitEOF) return eof();
+            if (p >= limit && !skipString) return null;
+            start = p;
+            mark = p;
+            startLine = line;
+            startCol = col;
+            if (skipString && skipString()) continue;
+            int c = la(p);
+            if (c == EOF) {
+                hitEOF = true;
+                continue;
+            }
+            int k = c < 128 ? START[c] : ERROR;
+            if (k > 0) {
+                advance(c);
+                return emit(k, null);
+            }
+            switch (k) {
+            case UPPER:
+            case LOWER:
+                return identifier(c);
+            case DIGIT:
+                do {
+                    p++;
+                    c = la(p);
+                } while (c >= '0' && c <= '9');
+                col += p - start;
+                return emit(CoolLexer.INT_CONST, null);
+            case SPACE:
+                do {
+                    advance(c);
+                    c = la(p);
+                } while (c >= 0 && c < 128 && START[c] == SPACE);
+                break;
+            case QUOTE:
+                return string();
+            case LPAREN:
+                if (la(p + 1) == '*') {
+                    Token t = comment();
+                    if (t != null) return t;
+                    break;
+                }
+                advance(c);
+                return emit(CoolLexer.LPAREN, null);
+            case STAR:
+                if (la(p + 1) == ')') {
+                    p += 2;
+                    col += 2;
+                    return emit(CoolLexer.ERROR, "Unmatched *)");
+                }
+                advance(c);
+                return emit(CoolLexer.STAR, null);
+            case MINUS:
+                if (la(p + 1) == '-') {
+                    p += 2;
+                    col += 2;
+                    do {
+                        mark = p;
+                        c = la(p);
+                        if (c == EOF) break;
+                        advance(c);
+                    } while (c != '\n');
+                    break;
+                }
+                advance(c);
+                return emit(CoolLexer.MINUS, null);
+            case LT:
+                advance(c);
+                c = la(p);
+                if (c == '=' || c == '-') {
+                    advance(c);
+                    return emit(c == '=' ? CoolLexer.LE : CoolLexer.ASSIGN, null);
+                }
+                return emit(CoolLexer.LT, null);
+            case EQUALS:
+                advance(c);
+                if (la(p) == '>') {
+                    advance('>');
+                    return emit(CoolLexer.DARROW, null);
+                }
+                return emit(CoolLexer.EQUALS, null);
+            default:
+                advance(c);
+                return emit(CoolLexer.ERROR, null);
+            }
+            // Skipped, the next token starts here
+            if (p >= n) hitEOF = true;
+        }
+    }
+
+    private Token emit(int type, String text) {
+        if (p >= n) hitEOF = true;
+        return factory.create(source, type, text, Token.DEFAULT_CHANNEL, start, p - 1, startLine, startCol);
+    }
+
+    private Token eof() {
+        return factory.create(source, Token.EOF, null, Token.DEFAULT_CHANNEL, p, p - 1, line, col);
+    }
+
+    /**
+     * TYPEID, OBJECTID, BOOL_CONST or a case-insensitive keyword. Names get
+     * their canonical Symbols text.
+     */
+    private Token identifier(int first) {
+        int last = first;
+        int c;
+        p++;
+        while ((c = la(p)) >= 0 && c < 128 && IDENT[c]) {
+            last = c;
+            p++;
+        }
+        int length = p - start;
+        col += length;
+        if (length <= 8) {
+            int h = hash(length, first, last);
+            String keyword = KEYWORDS[h];
+            if (keyword != null && keyword.length() == length && matches(keyword)) {
+                // true and false must start in lower case
+                if (KEYWORD_TYPES[h] != CoolLexer.BOOL_CONST || first == keyword.charAt(0))
+                    return emit(KEYWORD_TYPES[h], null);
+            }
+        }
+        return emit(first <= 'Z' ? CoolLexer.TYPEID : CoolLexer.OBJECTID,
+                    Symbols.intern(buf, start - bufStart, length));
+    }
+
+    private boolean matches(String keyword) {
+        for (int i = 0; i < keyword.length(); i++) {
+            // Identifier chars only fold letters onto each other
+            if ((la(start + i) | 0x20) != keyword.charAt(i)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Nested comment from (* to its *), returns null once it is closed
+     * or the "EOF in comment" error
+     */
+    private Token comment() {
+        p += 2;
+        col += 2;
+        int nesting = 1;
+        while (true) {
+            mark = p;
+            int c = la(p);
+            if (c == EOF) return emit(CoolLexer.ERROR, "EOF in comment");
+            if (c == '(' && la(p + 1) == '*') {
+                p += 2;
+                col += 2;
+                nesting++;
+            } else if (c == '*' && la(p + 1) == ')') {
+                p += 2;
+                col += 2;
+                if (--nesting == 0) return null;
+            } else {
+                advance(c);
+            }
+        }
+    }
+
+    /**
+     * String constant with its escapes resolved, or the error ending it
+     */
+    private Token string() {
+        advance('"');
+        StringBuilder text = new StringBuilder();
+        while (true) {
+            mark = p;
+            int c = la(p);
+            switch (c) {
+            case EOF:
+                return emit(CoolLexer.ERROR, "EOF in string constant");
+            case '"':
+                advance(c);
+                if (text.length() > CoolLexer.maxStringLength)
+                    return emit(CoolLexer.ERROR, "String constant too long");
+                return emit(CoolLexer.STR_CONST, text.toString());
+            case '\n':
+                advance(c);
+                return emit(CoolLexer.ERROR, "Unterminated string constant");
+            case 0:
+                advance(c);
+                skipString = true;
+                return emit(CoolLexer.ERROR, "String contains null character.");
+            case '\\':
+                int e = la(p + 1);
+                if (e == EOF) {
+                    advance(c);
+                    return recognitionError();
+                }
+                advance(c);
+                advance(e);
+                if (e == 0) {
+                    skipString = true;
+                    return emit(CoolLexer.ERROR, "String contains escaped null character.");
+                }
+                text.append(e == 'b' ? '\b' : e == 't' ? '\t' : e == 'n' ? '\n' : e == 'f' ? '\f' : (char) e);
+                break;
+            default:
+                int from = p;
+                do {
+                    p++;
+                    c = la(p);
+                } while (c > 0 && c != '\n' && c != '"' && c != '\\');
+                text.append(buf, from - bufStart, p - from);
+                col += p - from;
+            }
+        }
+    }
+
+    /**
+     * Skips to the end of a string holding a null char, returns false at EOF
+     */
+    private boolean skipString() {
+        while (true) {
+            mark = p;
+            int c = la(p);
+            if (c == EOF) return false;
+            advance(c);
+            if (c == '"' || c == '\n') {
+                skipString = false;
+                if (p >= n) hitEOF = true;
+                return true;
+            }
+        }
+    }
+
+    /**
+     * A backslash ending the input matches no rule of the STR mode: CoolLexer
+     * reports it to its error listeners and the input ends there
+     */
+    private Token recognitionError() {
+        StringBuilder text = new StringBuilder();
+        for (char c : input.getText(Interval.of(start, p - 1)).toCharArray()) {
+            text.append(c == '\n' ? "\\n" : c == '\t' ? "\\t" : c == '\r' ? "\\r" : String.valueOf(c));
+        }
+        String msg = "token recognition error at: '" + text + "'";
+        for (ANTLRErrorListener listener : listeners)
+            listener.syntaxError(null, null, startLine, startCol, msg, null);
+        hitEOF = true;
+        return eof();
+    }
+
+    @Override
+    public int getLine() {
+        return line;
+    }
+
+    @Override
+    public int getCharPositionInLine() {
+        return col;
+    }
+
+    @Override
+    public CharStream getInputStream() {
+        return input;
+    }
+
+    @Override
+    public String getSourceName() {
+        return input.getSourceName();
+    }
+
+    @Override
+    public void setTokenFactory(TokenFactory<?> factory) {
+        this.factory = factory;
+    }
+
+    @Override
+    public TokenFactory<?> getTokenFactory() {
+        return factory;
+    }
+
+    /**
+     * Listeners of the recognition errors, ANTLR's console listener until removed
+     */
+    public void addErrorListener(ANTLRErrorListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeErrorListeners() {
+        listeners.clear();
+    }
+}
@@ -0,0 +1,359 @@
+package cool;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenStream;
+
+import static cool.CoolLexer.*;
+
+/**
+ * Hand-written recursive descent parser of the Cool grammar, building the AST
+ * straight from the tokens.
+ *
+ * It accepts the programs CoolParser accepts and builds the same nodes with the
+ * same lines, but makes no parse tree and runs no ATN prediction: every decision
+ * is taken on the next one or two tokens. Expressions are parsed by precedence
+ * climbing over the levels of the grammar, from the loosest:
+ *
+ *   &lt;-  not  (&lt; &lt;= =)  (+ -)  (* /)  isvoid  ~  (@ .)
+ *
+ * Assignment and not are prefixes extending as far right as they can and the
+ * arithmetic operators are left associative. The comparisons do not associate:
+ * as the lastBool predicate of CoolParser, a comparison operator right after a
+ * bare comparison ends the expression, so an enclosing one may take it, as in
+ * (let x : Int in a < b) < c.
+ *
+ * The parser does not report errors. It returns null at the first token that
+ * does not fit, and the caller parses the tokens again with CoolParser for
+ * its diagnostics.
+ */
+public class FastCoolParser {
+
+    /**
+     * Thrown at the first token that does not fit, to unwind the parse
+     */
+    private static final class Mismatch extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        Mismatch() {
+            super("syntax error", null, false, false);
+        }
+    }
+
+    private static final Mismatch MISMATCH = new Mismatch();
+
+    // Precedences of the operator alternatives of CoolParser.expression
+    private static final int ASSIGN_OPERAND = 7;
+    private static final int NOT_OPERAND = 8;
+    private static final int COMPARISON = 9;
+    private static final int ADDITIVE = 10;
+    private static final int MULTIPLICATIVE = 11;
+    private static final int ISVOID_OPERAND = 12;
+    private static final int NEG_OPERAND = 13;
+
+    private final TokenStream tokens;
+    private final String filename;
+
+    public FastCoolParser(TokenStream tokens, String filename) {
+        this.tokens = tokens;
+        this.filename = filename;
+    }
+
+    /**
+     * Parses the tokens from the current one to EOF
+     * @return  The program, or null if the tokens are not a program
+     */
+    public AST.program program() {
+        try {
+            List<AST.class_> classes = new ArrayList<AST.class_>();
+            do {
+                classes.add(class_());
+            } while (tokens.LA(1) == CLASS);
+            expect(Token.EOF);
+            return new AST.program(classes, classes.get(0).lineNo);
+        } catch (Mismatch e) {
+            return null;
+        }
+    }
+
+    private AST.class_ class_() {
+        skip(CLASS);
+        Token name = match(TYPEID);
+        String parent = "Object";
+        if (tokens.LA(1) == INHERITS) {
+            tokens.consume();
+            parent = match(TYPEID).getText();
+        }
+        skip(LBRACE);
+        List<AST.feature> features = new ArrayList<AST.feature>();
+        while (tokens.LA(1) == OBJECTID)
+            features.add(feature());
+        skip(RBRACE);
+        skip(SEMICOLON);
+        return new AST.class_(name.getText(), filename, parent, features, name.getLine());
+    }
+
+    private AST.feature feature() {
+        Token name = match(OBJECTID);
+        int line = name.getLine();
+        if (tokens.LA(1) == LPAREN) {
+            tokens.consume();
+            List<AST.formal> formals = new ArrayList<AST.formal>();
+            if (tokens.LA(1) != RPAREN) {
+                formals.add(formal());
+                while (tokens.LA(1) == COMMA) {
+                    tokens.consume();
+                    formals.add(formal());
+                }
+            }
+            skip(RPAREN);
+            skip(COLON);
+            String type = match(TYPEID).getText();
+            skip(LBRACE);
+            AST.expression body = expression(0);
+            skip(RBRACE);
+            skip(SEMICOLON);
+            return new AST.method(name.getText(), formals, type, body, line);
+        }
+        skip(COLON);
+        String type = match(TYPEID).getText();
+        AST.expression init;
+        if (tokens.LA(1) == ASSIGN) {
+            tokens.consume();
+            init = expression(0);
+        } else {
+            init = new AST.no_expr(line);
+        }
+        skip(SEMICOLON);
+        return new AST.attr(name.getText(), type, init, line);
+    }
+
+    private AST.formal formal() {
+        Token name = match(OBJECTID);
+        skip(COLON);
+        return new AST.formal(name.getText(), match(TYPEID).getText(), name.getLine());
+    }
+
+    /**
+     * An expression whose binary operators bind at least as tight as precedence
+     * min, as CoolParser.expression(min)
+     */
+    private AST.expression expression(int min) {
+        AST.expression e = primary();
+        boolean comparison = false;     // Whether e is a bare comparison
+        while (true) {
+            int type = tokens.LA(1);
+            switch (type) {
+            case ATSYM: {
+                tokens.consume();
+                String staticType = match(TYPEID).getText();
+                skip(DOT);
+                String name = match(OBJECTID).getText();
+                e = new AST.static_dispatch(e, staticType, name, arguments(), e.lineNo);
+                comparison = false;
+                break;
+            }
+            case DOT: {
+                tokens.consume();
+                String name = match(OBJECTID).getText();
+                e = new AST.dispatch(e, name, arguments(), e.lineNo);
+                comparison = false;
+                break;
+            }
+            case STAR:
+            case SLASH:
+                if (min > MULTIPLICATIVE) return e;
+                tokens.consume();
+                AST.expression factor = expression(MULTIPLICATIVE + 1);
+                e = type == STAR ? new AST.mul(e, factor, e.lineNo) : new AST.divide(e, factor, e.lineNo);
+                comparison = false;
+                break;
+            case PLUS:
+            case MINUS:
+                if (min > ADDITIVE) return e;
+                tokens.consume();
+                AST.expression term = expression(ADDITIVE + 1);
+                e = type == PLUS ? new AST.plus(e, term, e.lineNo) : new AST.sub(e, term, e.lineNo);
+                comparison = false;
+                break;
+            case LT:
+            case LE:
+            case EQUALS:
+                if (min > COMPARISON || comparison) return e;
+                tokens.consume();
+                AST.expression right = expression(COMPARISON + 1);
+                if (type == LT) e = new AST.lt(e, right, e.lineNo);
+                else if (type == LE) e = new AST.leq(e, right, e.lineNo);
+                else e = new AST.eq(e, right, e.lineNo);
+                comparison = true;
+                break;
+            default:
+                return e;
+            }
+        }
+    }
+
+    private AST.expression primary() {
+        Token t;
+        switch (tokens.LA(1)) {
+        case TILDE: {
+            tokens.consume();
+            AST.expression e = expression(NEG_OPERAND);
+            return new AST.neg(e, e.lineNo);
+        }
+        case ISVOID: {
+            tokens.consume();
+            AST.expression e = expression(ISVOID_OPERAND);
+            return new AST.isvoid(e, e.lineNo);
+        }
+        case NOT: {
+            tokens.consume();
+            AST.expression e = expression(NOT_OPERAND);
+            return new AST.comp(e, e.lineNo);
+        }
+        case OBJECTID:
+            t = next();
+            if (tokens.LA(1) == ASSIGN) {
+                tokens.consume();
+                return new AST.assign(t.getText(), expression(ASSIGN_OPERAND), t.getLine());
+            }
+            if (tokens.LA(1) == LPAREN)
+                return new AST.dispatch(new AST.object("self", t.getLine()), t.getText(), arguments(), t.getLine());
+            return new AST.object(t.getText(), t.getLine());
+        case IF: {
+            tokens.consume();
+            AST.expression predicate = expression(0);
+            skip(THEN);
+            AST.expression then = expression(0);
+            skip(ELSE);
+            AST.expression otherwise = expression(0);
+            skip(FI);
+            return new AST.cond(predicate, then, otherwise, predicate.lineNo);
+        }
+        case WHILE: {
+            tokens.consume();
+            AST.expression predicate = expression(0);
+            skip(LOOP);
+            AST.expression body = expression(0);
+            skip(POOL);
+            return new AST.loop(predicate, body, predicate.lineNo);
+        }
+        case LBRACE: {
+            t = next();
+            List<AST.expression> body = new ArrayList<AST.expression>();
+            do {
+                body.add(expression(0));
+                skip(SEMICOLON);
+            } while (tokens.LA(1) != RBRACE);
+            tokens.consume();
+            return new AST.block(body, t.getLine());
+        }
+        case CASE: {
+            t = next();
+            AST.expression e = expression(0);
+            skip(OF);
+            List<AST.branch> branches = new ArrayList<AST.branch>();
+            do {
+                Token name = match(OBJECTID);
+                skip(COLON);
+                String type = match(TYPEID).getText();
+                skip(DARROW);
+                AST.expression value = expression(0);
+                skip(SEMICOLON);
+                branches.add(new AST.branch(name.getText(), type, value, name.getLine()));
+            } while (tokens.LA(1) == OBJECTID);
+            skip(ESAC);
+            return new AST.typcase(e, branches, t.getLine());
+        }
+        case NEW:
+            t = next();
+            return new AST.new_(match(TYPEID).getText(), t.getLine());
+        case LPAREN: {
+            tokens.consume();
+            AST.expression e = expression(0);
+            skip(RPAREN);
+            return e;
+        }
+        case INT_CONST:
+            t = next();
+            return new AST.int_const(Integer.parseInt(t.getText()), t.getLine());
+        case STR_CONST:
+            t = next();
+            return new AST.string_const(t.getText(), t.getLine());
+        case BOOL_CONST:
+            t = next();
+            return new AST.bool_const(t.getText().charAt(0) == 't', t.getLine());
+        case LET:
+            tokens.consume();
+            return let();
+        default:
+            throw MISMATCH;
+        }
+    }
+
+    /**
+     * The declarations of a let after the keyword and its body, one AST.let per
+     * declaration
+     */
+    private AST.expression let() {
+        Token name = match(OBJECTID);
+        int line = name.getLine();
+        skip(COLON);
+        String type = match(TYPEID).getText();
+        AST.expression init;
+        if (tokens.LA(1) == ASSIGN) {
+            tokens.consume();
+            init = expression(0);
+        } else {
+            init = new AST.no_expr(line);
+        }
+        AST.expression body;
+        if (tokens.LA(1) == COMMA) {
+            tokens.consume();
+            body = let();
+        } else {
+            skip(IN);
+            body = expression(0);
+        }
+        return new AST.let(name.getText(), type, init, body, line);
+    }
+
+    /**
+     * The parenthesized arguments of a dispatch
+     */
+    private List<AST.expression> arguments() {
+        skip(LPAREN);
+        List<AST.expression> args = new ArrayList<AST.expression>();
+        if (tokens.LA(1) != RPAREN) {
+            args.add(expression(0));
+            while (tokens.LA(1) == COMMA) {
+                tokens.consume();
+                args.add(expression(0));
+            }
+        }
+        skip(RPAREN);
+        return args;
+    }
+
+    private void expect(int type) {
+        if (tokens.LA(1) != type) throw MISMATCH;
+    }
+
+    private void skip(int type) {
+        expect(type);
+        tokens.consume();
+    }
+
+    private Token match(int type) {
+        expect(type);
+        return next();
+    }
+
+    private Token next() {
+        Token t = tokens.LT(1);
+        tokens.consume();
+        return t;
+    }
+}
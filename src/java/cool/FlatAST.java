@@ -0,0 +1,596 @@
+package cool;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * A program's AST in parallel primitive arrays, for programs of millions of nodes.
+ *
+ * Each AST object is one slot, in preorder: the first child of a node is the next
+ * slot and the children follow one another, each after the subtree of the one
+ * before. Per slot are kept the node kind, its line relative to that of its class,
+ * the size of its subtree, which gives the index past it, the id in the ClassGraph
+ * of the static type of an expression, and one int of payload: the index of a name
+ * in the list of the distinct names of the program, the value of an int or bool
+ * constant, or the index of a string constant. Nodes with two or three names hold
+ * an offset into a side array of name indexes instead. Lines, subtree sizes and
+ * class ids fit a char but for the rare big class or subtree, or program of that
+ * many classes, whose values are kept in maps.
+ *
+ * A slot takes 11 bytes, and a let, a dispatch with static type or a declaration 8
+ * more for its names. Measured by FlatASTCheck --memory on programs of 57 and 640
+ * thousand nodes, the parsed AST objects hold some 42 bytes a node and their
+ * FlatAST some 14, a third. Slots are walked by index, so traversals read the
+ * arrays in order. FlatASTVisitor walks the slots as ASTBaseVisitor walks the
+ * nodes.
+ */
+public final class FlatAST {
+
+    // Kinds, one per AST class
+    public static final byte PROGRAM = 0;
+    public static final byte CLASS = 1;
+    public static final byte ATTR = 2;
+    public static final byte METHOD = 3;
+    public static final byte FORMAL = 4;
+    public static final byte BRANCH = 5;
+    public static final byte NO_EXPR = 6;
+    public static final byte BOOL_CONST = 7;
+    public static final byte STRING_CONST = 8;
+    public static final byte INT_CONST = 9;
+    public static final byte OBJECT = 10;
+    public static final byte COMP = 11;
+    public static final byte EQ = 12;
+    public static final byte LEQ = 13;
+    public static final byte LT = 14;
+    public static final byte NEG = 15;
+    public static final byte DIVIDE = 16;
+    public static final byte MUL = 17;
+    public static final byte SUB = 18;
+    public static final byte PLUS = 19;
+    public static final byte ISVOID = 20;
+    public static final byte NEW = 21;
+    public static final byte ASSIGN = 22;
+    public static final byte BLOCK = 23;
+    public static final byte LOOP = 24;
+    public static final byte COND = 25;
+    public static final byte LET = 26;
+    public static final byte DISPATCH = 27;
+    public static final byte TYPCASE = 28;
+    public static final byte STATIC_DISPATCH = 29;
+
+    private static final char WIDE = Character.MAX_VALUE;  // Char slot whose value is in a map
+
+    private int n = 0;
+    private byte[] kinds = new byte[1024];
+    private char[] lines = new char[1024];                  // Line - line of the class
+    private char[] sizes = new char[1024];                  // Slots of the subtree
+    private char[] types = new char[1024];                  // Class id + 1, 0: no type
+    private int[] values = new int[1024];
+    private int[] extras = new int[256];                    // Names of let, static dispatch, declarations
+    private int extraCount = 0;
+    private final List<String> strings = new ArrayList<String>(); // String constants and file names
+    private final List<String> names = new ArrayList<String>();   // Distinct names, by index
+    private int programLine;
+    private int classCount = 0;
+    private int[] classes = new int[64];                    // Slots of the classes
+    private int[] classLines = new int[64];
+    private final HashMap<Integer, Integer> wideLines = new HashMap<Integer, Integer>();
+    private final HashMap<Integer, Integer> wideSizes = new HashMap<Integer, Integer>();
+    private final HashMap<Integer, Integer> wideTypes = new HashMap<Integer, Integer>();
+
+    private FlatAST() {
+    }
+
+    /**
+     * Encodes a program. The type ids are those of the ClassGraph whose nodes
+     * annotate it.
+     */
+    public static FlatAST of(AST.program program) {
+        FlatAST ast = new FlatAST();
+        program.accept(ast.new Builder());
+        ast.trim();
+        return ast;
+    }
+
+    /**
+     * Number of slots
+     */
+    public int size() {
+        return n;
+    }
+
+    public byte kind(int node) {
+        return kinds[node];
+    }
+
+    public int line(int node) {
+        if (node == 0) return programLine;
+        int k = Arrays.binarySearch(classes, 0, classCount, node);
+        return line(node, classLines[k >= 0 ? k : -k - 2]);
+    }
+
+    /**
+     * Line of a node of the class at line base
+     */
+    private int line(int node, int base) {
+        char line = lines[node];
+        return line != WIDE ? base + line : wideLines.get(node);
+    }
+
+    /**
+     * Index past the subtree of node, which is that of its next sibling
+     */
+    public int end(int node) {
+        char size = sizes[node];
+        return node + (size != WIDE ? size : wideSizes.get(node));
+    }
+
+    /**
+     * Class id of the static type of an expression, -1 if it has none
+     */
+    public int typeId(int node) {
+        char type = types[node];
+        return type != WIDE ? type - 1 : wideTypes.get(node);
+    }
+
+    /**
+     * Node of the static type of an expression in graph, null if it has none
+     */
+    public ClassGraph.Node type(int node, ClassGraph graph) {
+        int id = typeId(node);
+        return id >= 0 ? graph.getNode(id) : null;
+    }
+
+    /**
+     * Name of a class, feature, formal, branch, object, assignment, let or dispatch
+     */
+    public String name(int node) {
+        switch (kinds[node]) {
+        case OBJECT:
+        case ASSIGN:
+        case DISPATCH:
+            return symbol(values[node]);
+        case STATIC_DISPATCH:
+            return symbol(extras[values[node] + 1]);
+        default:
+            return symbol(extras[values[node]]);
+        }
+    }
+
+    /**
+     * Declared type of a feature, formal, branch, let, new or static dispatch
+     */
+    public String typeName(int node) {
+        switch (kinds[node]) {
+        case NEW:
+            return symbol(values[node]);
+        case STATIC_DISPATCH:
+            return symbol(extras[values[node]]);
+        default:
+            return symbol(extras[values[node] + 1]);
+        }
+    }
+
+    /**
+     * Parent class name of a class
+     */
+    public String parent(int node) {
+        return symbol(extras[values[node] + 1]);
+    }
+
+    /**
+     * File name of a class
+     */
+    public String filename(int node) {
+        int i = extras[values[node] + 2];
+        return i >= 0 ? strings.get(i) : null;
+    }
+
+    public int intValue(int node) {
+        return values[node];
+    }
+
+    public boolean boolValue(int node) {
+        return values[node] != 0;
+    }
+
+    public String stringValue(int node) {
+        return strings.get(values[node]);
+    }
+
+    private String symbol(int index) {
+        return index >= 0 ? names.get(index) : null;
+    }
+
+    /**
+     * Makes the AST objects again
+     * @param graph  Gives the static types, null to leave them unset
+     */
+    public AST.program toAST(ClassGraph graph) {
+        List<AST.class_> list = new ArrayList<AST.class_>(classCount);
+        for (int k = 0; k < classCount; k++)
+            list.add(toClass(classes[k], classLines[k], graph));
+        return new AST.program(list, programLine);
+    }
+
+    private AST.class_ toClass(int node, int base, ClassGraph graph) {
+        List<AST.feature> features = new ArrayList<AST.feature>();
+        for (int f = node + 1; f < end(node); f = end(f)) {
+            if (kinds[f] == ATTR) {
+                features.add(new AST.attr(name(f), typeName(f), toExpression(f + 1, base, graph), line(f, base)));
+            } else {
+                List<AST.formal> formals = new ArrayList<AST.formal>();
+                int c = f + 1;
+                for (; kinds[c] == FORMAL; c++)
+                    formals.add(new AST.formal(name(c), typeName(c), line(c, base)));
+                features.add(new AST.method(name(f), formals, typeName(f), toExpression(c, base, graph),
+                                            line(f, base)));
+            }
+        }
+        return new AST.class_(name(node), filename(node), parent(node), features, base);
+    }
+
+    private AST.expression toExpression(int node, int base, ClassGraph graph) {
+        int line = line(node, base);
+        int a = node + 1;           // First child
+        AST.expression e;
+        switch (kinds[node]) {
+        case NO_EXPR:
+            e = new AST.no_expr(line);
+            break;
+        case BOOL_CONST:
+            e = new AST.bool_const(boolValue(node), line);
+            break;
+        case STRING_CONST:
+            e = new AST.string_const(stringValue(node), line);
+            break;
+        case INT_CONST:
+            e = new AST.int_const(intValue(node), line);
+            break;
+        case OBJECT:
+            e = new AST.object(name(node), line);
+            break;
+        case COMP:
+            e = new AST.comp(toExpression(a, base, graph), line);
+            break;
+        case EQ:
+            e = new AST.eq(toExpression(a, base, graph), toExpression(end(a), base, graph), line);
+            break;
+        case LEQ:
+            e = new AST.leq(toExpression(a, base, graph), toExpression(end(a), base, graph), line);
+            break;
+        case LT:
+            e = new AST.lt(toExpression(a, base, graph), toExpression(end(a), base, graph), line);
+            break;
+        case NEG:
+            e = new AST.neg(toExpression(a, base, graph), line);
+            break;
+        case DIVIDE:
+            e = new AST.divide(toExpression(a, base, graph), toExpression(end(a), base, graph), line);
+            break;
+        case MUL:
+            e = new AST.mul(toExpression(a, base, graph), toExpression(end(a), base, graph), line);
+            break;
+        case SUB:
+            e = new AST.sub(toExpression(a, base, graph), toExpression(end(a), base, graph), line);
+            break;
+        case PLUS:
+            e = new AST.plus(toExpression(a, base, graph), toExpression(end(a), base, graph), line);
+            break;
+        case ISVOID:
+            e = new AST.isvoid(toExpression(a, base, graph), line);
+            break;
+        case NEW:
+            e = new AST.new_(typeName(node), line);
+            break;
+        case ASSIGN:
+            e = new AST.assign(name(node), toExpression(a, base, graph), line);
+            break;
+        case BLOCK:
+            e = new AST.block(toExpressions(a, end(node), base, graph), line);
+            break;
+        case LOOP:
+            e = new AST.loop(toExpression(a, base, graph), toExpression(end(a), base, graph), line);
+            break;
+        case COND: {
+            int b = end(a);
+            e = new AST.cond(toExpression(a, base, graph), toExpression(b, base, graph), toExpression(end(b), base, graph), line);
+            break;
+        }
+        case LET:
+            e = new AST.let(name(node), typeName(node), toExpression(a, base, graph), toExpression(end(a), base, graph), line);
+            break;
+        case DISPATCH:
+            e = new AST.dispatch(toExpression(a, base, graph), name(node), toExpressions(end(a), end(node), base, graph), line);
+            break;
+        case STATIC_DISPATCH:
+            e = new AST.static_dispatch(toExpression(a, base, graph), typeName(node), name(node),
+                                        toExpressions(end(a), end(node), base, graph), line);
+            break;
+        case TYPCASE: {
+            List<AST.branch> branches = new ArrayList<AST.branch>();
+            for (int b = end(a); b < end(node); b = end(b))
+                branches.add(new AST.branch(name(b), typeName(b), toExpression(b + 1, base, graph), line(b, base)));
+            e = new AST.typcase(toExpression(a, base, graph), branches, line);
+            break;
+        }
+        default:
+            throw new IllegalStateException("slot " + node + " of kind " + kinds[node] + " is not an expression");
+        }
+        if (graph != null) e.type = type(node, graph);
+        return e;
+    }
+
+    /**
+     * The expressions of the sibling slots [from, to)
+     */
+    private List<AST.expression> toExpressions(int from, int to, int base, ClassGraph graph) {
+        List<AST.expression> list = new ArrayList<AST.expression>();
+        for (int c = from; c < to; c = end(c))
+            list.add(toExpression(c, base, graph));
+        return list;
+    }
+
+    /**
+     * Adds the slot of a node before its children
+     * @return  Its index
+     */
+    private int open(byte kind, int line, int value) {
+        if (n == kinds.length) resize(2 * n);
+        kinds[n] = kind;
+        int base = classCount > 0 ? classLines[classCount - 1] : line;
+        if (line - base >= 0 && line - base < WIDE) {
+            lines[n] = (char) (line - base);
+        } else {
+            lines[n] = WIDE;
+            wideLines.put(n, line);
+        }
+        values[n] = value;
+        return n++;
+    }
+
+    /**
+     * Sets the subtree size of a node once its children are added
+     */
+    private void close(int node) {
+        int size = n - node;
+        if (size < WIDE) {
+            sizes[node] = (char) size;
+        } else {
+            sizes[node] = WIDE;
+            wideSizes.put(node, size);
+        }
+    }
+
+    private void setType(int node, AST.expression e) {
+        int id = e.type != null ? e.type.id : -1;
+        if (id + 1 < WIDE) {
+            types[node] = (char) (id + 1);
+        } else {
+            types[node] = WIDE;
+            wideTypes.put(node, id);
+        }
+    }
+
+    /**
+     * Stores names in the side array
+     * @return  Their offset
+     */
+    private int extra(int... names) {
+        if (extraCount + names.length > extras.length)
+            extras = Arrays.copyOf(extras, Math.max(2 * extras.length, extraCount + names.length));
+        System.arraycopy(names, 0, extras, extraCount, names.length);
+        extraCount += names.length;
+        return extraCount - names.length;
+    }
+
+    private int string(String s) {
+        strings.add(s);
+        return strings.size() - 1;
+    }
+
+    private void resize(int size) {
+        kinds = Arrays.copyOf(kinds, size);
+        lines = Arrays.copyOf(lines, size);
+        sizes = Arrays.copyOf(sizes, size);
+        types = Arrays.copyOf(types, size);
+        values = Arrays.copyOf(values, size);
+    }
+
+    private void trim() {
+        resize(n);
+        extras = Arrays.copyOf(extras, extraCount);
+        classes = Arrays.copyOf(classes, classCount);
+        classLines = Arrays.copyOf(classLines, classCount);
+    }
+
+    /**
+     * Appends the slots of the nodes it visits
+     */
+    private class Builder implements ASTVisitor {
+
+        private final HashMap<String, Integer> nameIndex = new HashMap<String, Integer>();
+
+        /**
+         * Index of a name in names, -1 for null
+         */
+        private int symbol(String name) {
+            if (name == null) return -1;
+            Integer index = nameIndex.get(name);
+            if (index == null) {
+                index = names.size();
+                names.add(name);
+                nameIndex.put(name, index);
+            }
+            return index;
+        }
+
+        private void leaf(byte kind, AST.expression e, int value) {
+            int i = open(kind, e.lineNo, value);
+            setType(i, e);
+            close(i);
+        }
+
+        private void node(byte kind, AST.expression e, int value, AST.expression... children) {
+            int i = open(kind, e.lineNo, value);
+            setType(i, e);
+            for (AST.expression c : children)
+                c.accept(this);
+            close(i);
+        }
+
+        private void node(byte kind, AST.expression e, int value, AST.expression first,
+                          List<? extends AST.ASTNode> rest) {
+            int i = open(kind, e.lineNo, value);
+            setType(i, e);
+            first.accept(this);
+            for (AST.ASTNode c : rest)
+                c.accept(this);
+            close(i);
+        }
+
+        public void visit(AST.program node) {
+            programLine = node.lineNo;
+            int i = open(PROGRAM, node.lineNo, 0);
+            for (AST.class_ c : node.classes)
+                c.accept(this);
+            close(i);
+        }
+
+        public void visit(AST.class_ node) {
+            if (classCount == classes.length) {
+                classes = Arrays.copyOf(classes, 2 * classCount);
+                classLines = Arrays.copyOf(classLines, 2 * classCount);
+            }
+            classes[classCount] = n;
+            classLines[classCount++] = node.lineNo;
+            int i = open(CLASS, node.lineNo, extra(symbol(node.name), symbol(node.parent),
+                                                   node.filename != null ? string(node.filename) : -1));
+            for (AST.feature f : node.features)
+                f.accept(this);
+            close(i);
+        }
+
+        public void visit(AST.attr node) {
+            int i = open(ATTR, node.lineNo, extra(symbol(node.name), symbol(node.typeid)));
+            node.value.accept(this);
+            close(i);
+        }
+
+        public void visit(AST.method node) {
+            int i = open(METHOD, node.lineNo, extra(symbol(node.name), symbol(node.typeid)));
+            for (AST.formal f : node.formals)
+                f.accept(this);
+            node.body.accept(this);
+            close(i);
+        }
+
+        public void visit(AST.formal node) {
+            close(open(FORMAL, node.lineNo, extra(symbol(node.name), symbol(node.typeid))));
+        }
+
+        public void visit(AST.branch node) {
+            int i = open(BRANCH, node.lineNo, extra(symbol(node.name), symbol(node.type)));
+            node.value.accept(this);
+            close(i);
+        }
+
+        public void visit(AST.no_expr node) {
+            leaf(NO_EXPR, node, 0);
+        }
+
+        public void visit(AST.bool_const node) {
+            leaf(BOOL_CONST, node, node.value ? 1 : 0);
+        }
+
+        public void visit(AST.string_const node) {
+            leaf(STRING_CONST, node, string(node.value));
+        }
+
+        public void visit(AST.int_const node) {
+            leaf(INT_CONST, node, node.value);
+        }
+
+        public void visit(AST.object node) {
+            leaf(OBJECT, node, symbol(node.name));
+        }
+
+        public void visit(AST.comp node) {
+            node(COMP, node, 0, node.e1);
+        }
+
+        public void visit(AST.eq node) {
+            node(EQ, node, 0, node.e1, node.e2);
+        }
+
+        public void visit(AST.leq node) {
+            node(LEQ, node, 0, node.e1, node.e2);
+        }
+
+        public void visit(AST.lt node) {
+            node(LT, node, 0, node.e1, node.e2);
+        }
+
+        public void visit(AST.neg node) {
+            node(NEG, node, 0, node.e1);
+        }
+
+        public void visit(AST.divide node) {
+            node(DIVIDE, node, 0, node.e1, node.e2);
+        }
+
+        public void visit(AST.mul node) {
+            node(MUL, node, 0, node.e1, node.e2);
+        }
+
+        public void visit(AST.sub node) {
+            node(SUB, node, 0, node.e1, node.e2);
+        }
+
+        public void visit(AST.plus node) {
+            node(PLUS, node, 0, node.e1, node.e2);
+        }
+
+        public void visit(AST.isvoid node) {
+            node(ISVOID, node, 0, node.e1);
+        }
+
+        public void visit(AST.new_ node) {
+            leaf(NEW, node, symbol(node.typeid));
+        }
+
+        public void visit(AST.assign node) {
+            node(ASSIGN, node, symbol(node.name), node.e1);
+        }
+
+        public void visit(AST.block node) {
+            node(BLOCK, node, 0, node.l1.toArray(new AST.expression[0]));
+        }
+
+        public void visit(AST.loop node) {
+            node(LOOP, node, 0, node.predicate, node.body);
+        }
+
+        public void visit(AST.cond node) {
+            node(COND, node, 0, node.predicate, node.ifbody, node.elsebody);
+        }
+
+        public void visit(AST.let node) {
+            node(LET, node, extra(symbol(node.name), symbol(node.typeid)), node.value, node.body);
+        }
+
+        public void visit(AST.dispatch node) {
+            node(DISPATCH, node, symbol(node.name), node.caller, node.actuals);
+        }
+
+        public void visit(AST.typcase node) {
+            node(TYPCASE, node, 0, node.predicate, node.branches);
+        }
+
+        public void visit(AST.static_dispatch node) {
+            node(STATIC_DISPATCH, node, extra(symbol(node.typeid), symbol(node.name)), node.caller, node.actuals);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package cool;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Differential check and memory measurement of FlatAST.
+ *
+ *   java cool.FlatASTCheck [--memory] <files, directories or @lists...>
+ *
+ * Every file that analyzes to a program is encoded as a FlatAST and decoded
+ * again with the ClassGraph of the analysis; the printed ASTs, static types
+ * included, must be the same. A FlatASTVisitor must visit every slot once, in
+ * preorder. With --memory, instead of the check, the heap held by the parsed AST
+ * objects of each file and by their FlatAST is measured after full collections
+ * and printed per node; printing a program of a million nodes takes long.
+ */
+public class FlatASTCheck {
+
+    /**
+     * Copies of a program held at once when measuring, to average out the noise
+     */
+    private static final int COPIES = 3;
+
+    public static void main(String[] args) throws IOException {
+        boolean memory = args.length > 0 && args[0].equals("--memory");
+        int first = memory ? 1 : 0;
+        if (args.length <= first) {
+            System.err.println("Usage: FlatASTCheck [--memory] <files, directories or @lists...>");
+            System.exit(1);
+        }
+        List<String> files = SemanticTest.collectFiles(Arrays.copyOfRange(args, first, args.length));
+        CoolAnalyzer analyzer = new CoolAnalyzer();
+        int programs = 0;
+        long slots = 0;
+        int mismatches = 0;
+        for (String f : files) {
+            AnalysisResult result = analyzer.analyze(Paths.get(f));
+            if (result.getProgram() == null) continue;
+            programs++;
+            if (memory) {
+                result = null;
+                measure(analyzer, f);
+                continue;
+            }
+            FlatAST flat = FlatAST.of(result.getProgram());
+            slots += flat.size();
+            if (!check(f, result, flat)) mismatches++;
+        }
+        if (!memory)
+            System.out.println(files.size() + " files, " + programs + " programs, " + slots + " slots, "
+                               + mismatches + " with different results");
+        if (mismatches > 0)
+            System.exit(1);
+    }
+
+    private static boolean check(String file, AnalysisResult result, FlatAST flat) {
+        String expected = result.getProgram().getString("");
+        String actual = flat.toAST(result.getClassGraph()).getString("");
+        if (!expected.equals(actual)) {
+            System.out.println(file + ": the AST prints\n" + expected + "\nits FlatAST prints\n" + actual);
+            return false;
+        }
+        int[] next = { 0 };
+        boolean[] ordered = { true };
+        new FlatASTVisitor(flat) {
+            @Override
+            public void accept(int node) {
+                if (node != next[0]++) ordered[0] = false;
+                super.accept(node);
+            }
+        }.visit();
+        if (!ordered[0] || next[0] != flat.size()) {
+            System.out.println(file + ": FlatASTVisitor made " + next[0] + " visits out of order or not to all "
+                               + flat.size() + " slots");
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Prints the heap per node held by the AST objects of a file, as the parser
+     * makes them, and by their FlatAST once the objects are dropped. Both hold
+     * the same name and string constant Strings.
+     */
+    private static void measure(CoolAnalyzer analyzer, String file) {
+        List<AST.program> programs = new ArrayList<AST.program>();
+        long base = usedHeap();
+        for (int i = 0; i < COPIES; i++) {
+            CoolAnalyzer.ParsedUnit unit = analyzer.parse(Paths.get(file));
+            programs.add(new AST.program(unit.classes, unit.classes.get(0).lineNo));
+        }
+        long objects = usedHeap() - base;
+        List<FlatAST> flats = new ArrayList<FlatAST>();
+        for (AST.program p : programs)
+            flats.add(FlatAST.of(p));
+        programs.clear();
+        long flat = usedHeap() - base;
+        double nodes = (double) flats.get(0).size() * COPIES;
+        System.out.printf("%s: %d nodes, %.1f bytes/node as objects, %.1f as FlatAST, %.1f times less%n", file,
+                          flats.get(0).size(), objects / nodes, flat / nodes, (double) objects / flat);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 4; i++)
+            System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,196 @@
+package cool;
+
+/**
+ * Walks the slots of a FlatAST as ASTBaseVisitor walks the AST objects: there is
+ * a visit method per node kind, taking the slot index, and by default each one
+ * visits the children of the node in order. Subclasses override the kinds they
+ * handle and call visitChildren, or accept on single children, to go on below.
+ */
+public class FlatASTVisitor {
+
+    protected final FlatAST ast;
+
+    public FlatASTVisitor(FlatAST ast) {
+        this.ast = ast;
+    }
+
+    /**
+     * Visits the whole program
+     */
+    public void visit() {
+        accept(0);
+    }
+
+    /**
+     * Calls the visit method of the kind of node
+     */
+    public void accept(int node) {
+        switch (ast.kind(node)) {
+        case FlatAST.PROGRAM: visitProgram(node); break;
+        case FlatAST.CLASS: visitClass(node); break;
+        case FlatAST.ATTR: visitAttr(node); break;
+        case FlatAST.METHOD: visitMethod(node); break;
+        case FlatAST.FORMAL: visitFormal(node); break;
+        case FlatAST.BRANCH: visitBranch(node); break;
+        case FlatAST.NO_EXPR: visitNoExpr(node); break;
+        case FlatAST.BOOL_CONST: visitBoolConst(node); break;
+        case FlatAST.STRING_CONST: visitStringConst(node); break;
+        case FlatAST.INT_CONST: visitIntConst(node); break;
+        case FlatAST.OBJECT: visitObject(node); break;
+        case FlatAST.COMP: visitComp(node); break;
+        case FlatAST.EQ: visitEq(node); break;
+        case FlatAST.LEQ: visitLeq(node); break;
+        case FlatAST.LT: visitLt(node); break;
+        case FlatAST.NEG: visitNeg(node); break;
+        case FlatAST.DIVIDE: visitDivide(node); break;
+        case FlatAST.MUL: visitMul(node); break;
+        case FlatAST.SUB: visitSub(node); break;
+        case FlatAST.PLUS: visitPlus(node); break;
+        case FlatAST.ISVOID: visitIsvoid(node); break;
+        case FlatAST.NEW: visitNew(node); break;
+        case FlatAST.ASSIGN: visitAssign(node); break;
+        case FlatAST.BLOCK: visitBlock(node); break;
+        case FlatAST.LOOP: visitLoop(node); break;
+        case FlatAST.COND: visitCond(node); break;
+        case FlatAST.LET: visitLet(node); break;
+        case FlatAST.DISPATCH: visitDispatch(node); break;
+        case FlatAST.TYPCASE: visitTypcase(node); break;
+        case FlatAST.STATIC_DISPATCH: visitStaticDispatch(node); break;
+        default: throw new IllegalStateException("slot " + node + " has no kind " + ast.kind(node));
+        }
+    }
+
+    /**
+     * Visits the children of node in order
+     */
+    public void visitChildren(int node) {
+        int end = ast.end(node);
+        for (int c = node + 1; c < end; c = ast.end(c))
+            accept(c);
+    }
+
+    public void visitProgram(int node) {
+        visitChildren(node);
+    }
+
+    public void visitClass(int node) {
+        visitChildren(node);
+    }
+
+    public void visitAttr(int node) {
+        visitChildren(node);
+    }
+
+    /**
+     * The formals, then the body
+     */
+    public void visitMethod(int node) {
+        visitChildren(node);
+    }
+
+    public void visitFormal(int node) {
+    }
+
+    public void visitBranch(int node) {
+        visitChildren(node);
+    }
+
+    public void visitNoExpr(int node) {
+    }
+
+    public void visitBoolConst(int node) {
+    }
+
+    public void visitStringConst(int node) {
+    }
+
+    public void visitIntConst(int node) {
+    }
+
+    public void visitObject(int node) {
+    }
+
+    public void visitComp(int node) {
+        visitChildren(node);
+    }
+
+    public void visitEq(int node) {
+        visitChildren(node);
+    }
+
+    public void visitLeq(int node) {
+        visitChildren(node);
+    }
+
+    public void visitLt(int node) {
+        visitChildren(node);
+    }
+
+    public void visitNeg(int node) {
+        visitChildren(node);
+    }
+
+    public void visitDivide(int node) {
+        visitChildren(node);
+    }
+
+    public void visitMul(int node) {
+        visitChildren(node);
+    }
+
+    public void visitSub(int node) {
+        visitChildren(node);
+    }
+
+    public void visitPlus(int node) {
+        visitChildren(node);
+    }
+
+    public void visitIsvoid(int node) {
+        visitChildren(node);
+    }
+
+    public void visitNew(int node) {
+    }
+
+    public void visitAssign(int node) {
+        visitChildren(node);
+    }
+
+    public void visitBlock(int node) {
+        visitChildren(node);
+    }
+
+    public void visitLoop(int node) {
+        visitChildren(node);
+    }
+
+    public void visitCond(int node) {
+        visitChildren(node);
+    }
+
+    public void visitLet(int node) {
+        visitChildren(node);
+    }
+
+    /**
+     * The caller, then the actuals
+     */
+    public void visitDispatch(int node) {
+        visitChildren(node);
+    }
+
+    /**
+     * The predicate, then the branches
+     */
+    public void visitTypcase(int node) {
+        visitChildren(node);
+    }
+
+    /**
+     * The caller, then the actuals
+     */
+    public void visitStaticDispatch(int node) {
+        visitChildren(node);
+    }
+}
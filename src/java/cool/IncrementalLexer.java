@@ -0,0 +1,274 @@
+package cool;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.antlr.v4.runtime.ANTLRInputStream;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.ListTokenSource;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.misc.Pair;
+
+/**
+ * Tokens of a source that is edited in place, as in an editor or watch mode.
+ *
+ * The tokens are kept in parallel arrays as in CompactTokenStream, along with
+ * the mode the lexer is in after each of them. An edit is lexed again from the
+ * end of the last token it cannot have changed: FastCoolLexer looks at most one
+ * char past a token, so that is the last token ending two chars or more before
+ * the edit. The lexer restarts there in the mode recorded for the token, and
+ * stops at the first token it starts past the edit where an old token started.
+ * Tokens start in DEFAULT_MODE and the rest of the source is the same, so the
+ * old tokens from there on are kept, moved by the length difference of the edit.
+ *
+ * The tokens are always those FastCoolLexer, hence CoolLexer, makes of the whole
+ * edited source. A backslash ending the source is reported on the console again
+ * by every edit lexing up to it.
+ */
+public class IncrementalLexer {
+
+    /**
+     * Tokens changed by an edit: the old tokens [first, first + removed) were
+     * replaced by the tokens [first, first + added). The tokens after them have
+     * the same type and text as before, their indexes, lines and columns moved
+     * with the edit.
+     */
+    public static final class Window {
+        public final int first;
+        public final int removed;
+        public final int added;
+
+        Window(int first, int removed, int added) {
+            this.first = first;
+            this.removed = removed;
+            this.added = added;
+        }
+
+        @Override
+        public String toString() {
+            return "tokens " + first + "+" + removed + " -> " + first + "+" + added;
+        }
+    }
+
+    private char[] data;
+    private Pair<TokenSource, CharStream> sourcePair;
+
+    // Tokens, EOF included
+    private int n = 0;
+    private byte[] types = new byte[64];
+    private int[] starts = new int[64];
+    private int[] stops = new int[64];
+    private int[] lines = new int[64];
+    private int[] columns = new int[64];
+    private String[] texts = new String[64];    // Null when the text is that of the source
+    private byte[] modes = new byte[64];        // Lexer mode after the token
+
+    public IncrementalLexer(String source) {
+        setSource(source.toCharArray());
+        relex(0, 0, 1, 0, Lexer.DEFAULT_MODE, 0, 0);
+    }
+
+    public String getSource() {
+        return new String(data);
+    }
+
+    /**
+     * Number of tokens, EOF included
+     */
+    public int size() {
+        return n;
+    }
+
+    public int getType(int i) {
+        check(i);
+        return types[i];
+    }
+
+    /**
+     * The token at index i, made from the arrays
+     */
+    public Token get(int i) {
+        check(i);
+        CommonToken t = new CommonToken(sourcePair, types[i], Token.DEFAULT_CHANNEL, starts[i], stops[i]);
+        t.setLine(lines[i]);
+        t.setCharPositionInLine(columns[i]);
+        t.setText(texts[i]);
+        t.setTokenIndex(i);
+        return t;
+    }
+
+    /**
+     * The tokens [from, to) as a source of their own, ending with an EOF token at
+     * the place of the token at to
+     */
+    TokenSource slice(int from, int to) {
+        List<Token> slice = new ArrayList<Token>(to - from + 1);
+        for (int i = from; i < to; i++)
+            slice.add(get(i));
+        CommonToken eof = (CommonToken) get(to);
+        eof.setType(Token.EOF);
+        slice.add(eof);
+        return new ListTokenSource(slice);
+    }
+
+    private void check(int i) {
+        if (i < 0 || i >= n)
+            throw new IndexOutOfBoundsException("token index " + i + " out of range 0.." + (n - 1));
+    }
+
+    /**
+     * Replaces the whole source, as an edit of the chars between the common
+     * prefix and suffix of the old and new sources
+     */
+    public Window edit(String source) {
+        int length = data.length;
+        int limit = Math.min(length, source.length());
+        int prefix = 0;
+        while (prefix < limit && data[prefix] == source.charAt(prefix))
+            prefix++;
+        int suffix = 0;
+        while (suffix < limit - prefix && data[length - 1 - suffix] == source.charAt(source.length() - 1 - suffix))
+            suffix++;
+        return edit(prefix, length - prefix - suffix, source.substring(prefix, source.length() - suffix));
+    }
+
+    /**
+     * Replaces the chars [offset, offset + length) of the source by text
+     * @return  The tokens that changed
+     */
+    public Window edit(int offset, int length, String text) {
+        if (offset < 0 || length < 0 || offset + length > data.length)
+            throw new IndexOutOfBoundsException("edit of " + offset + "+" + length + " in " + data.length + " chars");
+        char[] edited = new char[data.length - length + text.length()];
+        System.arraycopy(data, 0, edited, 0, offset);
+        text.getChars(0, text.length(), edited, offset);
+        System.arraycopy(data, offset + length, edited, offset + text.length(), data.length - offset - length);
+        setSource(edited);
+
+        // The first token that may change ends a char before the edit or later
+        int first = firstStoppingAfter(offset - 2);
+        if (first == 0)
+            return relex(0, 0, 1, 0, Lexer.DEFAULT_MODE, offset + text.length(), text.length() - length);
+        int before = first - 1;
+        int from = stops[before] + 1;
+        int line = lines[before];
+        int col = columns[before];
+        for (int i = starts[before]; i < from; i++) {
+            if (data[i] == '\n') {
+                line++;
+                col = 0;
+            } else {
+                col++;
+            }
+        }
+        return relex(first, from, line, col, modes[before], offset + text.length(), text.length() - length);
+    }
+
+    private void setSource(char[] chars) {
+        data = chars;
+        sourcePair = new Pair<TokenSource, CharStream>(null, new ANTLRInputStream(chars, chars.length));
+    }
+
+    /**
+     * Index of the first token stopping after char index
+     */
+    private int firstStoppingAfter(int index) {
+        int lo = 0;
+        int hi = n;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (stops[mid] > index) hi = mid; else lo = mid + 1;
+        }
+        return lo;
+    }
+
+    /**
+     * Lexes the edited source from char from, which is where token first starts
+     * or the whitespace before it, until the tokens meet the old ones again
+     * @param editEnd   End of the edit in the edited source
+     * @param shift     Length difference of the edit
+     */
+    private Window relex(int first, int from, int line, int col, int mode, int editEnd, int shift) {
+        FastCoolLexer lexer = new FastCoolLexer(sourcePair.b, from, line, col, mode);
+        lexer.removeErrorListeners();   // A source that does not parse gets its diagnostics from a full parse
+        Token[] added = new Token[16];
+        byte[] addedModes = new byte[16];
+        int count = 0;
+        int resume = first;     // Old token to go on with
+        Token match = null;     // The new one it matches
+        while (true) {
+            Token t = lexer.nextToken();
+            int start = t.getStartIndex();
+            if (start >= editEnd) {
+                while (resume < n && starts[resume] < start - shift)
+                    resume++;
+                if (resume < n && starts[resume] == start - shift) {
+                    match = t;
+                    break;
+                }
+            }
+            if (count == added.length) {
+                added = Arrays.copyOf(added, 2 * count);
+                addedModes = Arrays.copyOf(addedModes, 2 * count);
+            }
+            added[count] = t;
+            addedModes[count++] = (byte) lexer.mode();
+            if (t.getType() == Token.EOF) {
+                resume = n;
+                break;
+            }
+        }
+
+        // Make room for the new tokens and move the old ones after them
+        int removed = resume - first;
+        int size = n - removed + count;
+        if (size > types.length) resize(Math.max(size, 2 * types.length));
+        int tail = first + count;
+        System.arraycopy(types, resume, types, tail, n - resume);
+        System.arraycopy(starts, resume, starts, tail, n - resume);
+        System.arraycopy(stops, resume, stops, tail, n - resume);
+        System.arraycopy(lines, resume, lines, tail, n - resume);
+        System.arraycopy(columns, resume, columns, tail, n - resume);
+        System.arraycopy(texts, resume, texts, tail, n - resume);
+        System.arraycopy(modes, resume, modes, tail, n - resume);
+        if (match != null) {
+            int oldLine = lines[tail];
+            int lineShift = match.getLine() - oldLine;
+            int colShift = match.getCharPositionInLine() - columns[tail];
+            for (int i = tail; i < size; i++) {
+                if (lines[i] == oldLine) columns[i] += colShift;
+                starts[i] += shift;
+                stops[i] += shift;
+                lines[i] += lineShift;
+            }
+        }
+        n = size;
+        for (int i = 0; i < count; i++) {
+            Token t = added[i];
+            int k = first + i;
+            types[k] = (byte) t.getType();
+            starts[k] = t.getStartIndex();
+            stops[k] = t.getStopIndex();
+            lines[k] = t.getLine();
+            columns[k] = t.getCharPositionInLine();
+            texts[k] = t.getType() == CoolLexer.TYPEID || t.getType() == CoolLexer.OBJECTID
+                       || t.getType() == CoolLexer.STR_CONST || t.getType() == CoolLexer.ERROR ? t.getText() : null;
+            modes[k] = addedModes[i];
+        }
+        return new Window(first, removed, count);
+    }
+
+    private void resize(int size) {
+        types = Arrays.copyOf(types, size);
+        starts = Arrays.copyOf(starts, size);
+        stops = Arrays.copyOf(stops, size);
+        lines = Arrays.copyOf(lines, size);
+        columns = Arrays.copyOf(columns, size);
+        texts = Arrays.copyOf(texts, size);
+        modes = Arrays.copyOf(modes, size);
+    }
+}
@@ -0,0 +1,328 @@
+package cool;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Parser of a source that is edited in place, parsing again only the classes an
+ * edit touched.
+ *
+ * The tokens are kept by an IncrementalLexer and, as in ParallelParser, cut
+ * before every class token into spans, each of which must be one class. After an
+ * edit, a span lying wholly before or wholly after the tokens the edit changed,
+ * and cut at the same tokens as before, keeps its AST.class_ object; the other
+ * spans are parsed again by the analyzer. When the edit added or removed lines
+ * before a kept class, the lines of its nodes are moved. Later passes can so tell
+ * the classes an edit left alone, by identity, from the ones it replaced.
+ *
+ * Parsing reports no errors: while a span does not parse, which includes a span
+ * holding a lexical error, the program is null and the caller parses the whole
+ * source with the analyzer for its diagnostics.
+ */
+public class IncrementalParser {
+
+    /**
+     * The tokens [start, end) and the class they parse to, null if they do not
+     */
+    private static final class Span {
+        final int start;
+        final int end;
+        final int line;             // Of the token at start
+        final AST.class_ class_;
+
+        Span(int start, int end, int line, AST.class_ class_) {
+            this.start = start;
+            this.end = end;
+            this.line = line;
+            this.class_ = class_;
+        }
+    }
+
+    private final CoolAnalyzer analyzer;
+    private final String filename;
+    private final IncrementalLexer lexer;
+    private List<Span> spans = Collections.emptyList();
+    private AST.program program;
+    private int reparsed;
+
+    /**
+     * Lexes and parses the whole source
+     * @param analyzer  Parses the spans, in its ParseMode
+     */
+    public IncrementalParser(CoolAnalyzer analyzer, String filename, String source, Deadline deadline) {
+        this.analyzer = analyzer;
+        this.filename = filename;
+        this.lexer = new IncrementalLexer(source);
+        update(0, 0, lexer.size(), deadline);
+    }
+
+    /**
+     * The program of the source, null if it does not parse
+     */
+    public AST.program getProgram() {
+        return program;
+    }
+
+    /**
+     * Number of classes, or spans that failed, parsed by the last edit
+     */
+    public int getReparsed() {
+        return reparsed;
+    }
+
+    public IncrementalLexer getLexer() {
+        return lexer;
+    }
+
+    /**
+     * Replaces the whole source, as an edit of the chars between the common
+     * prefix and suffix of the old and new sources
+     * @return  The program of the new source, null if it does not parse
+     */
+    public AST.program edit(String source, Deadline deadline) {
+        IncrementalLexer.Window w = lexer.edit(source);
+        return update(w.first, w.removed, w.added, deadline);
+    }
+
+    /**
+     * Replaces the chars [offset, offset + length) of the source by text
+     * @return  The program of the new source, null if it does not parse
+     */
+    public AST.program edit(int offset, int length, String text, Deadline deadline) {
+        IncrementalLexer.Window w = lexer.edit(offset, length, text);
+        return update(w.first, w.removed, w.added, deadline);
+    }
+
+    /**
+     * Cuts the tokens into spans again after the old tokens [first, first +
+     * removed) were replaced by the tokens [first, first + added)
+     */
+    private AST.program update(int first, int removed, int added, Deadline deadline) {
+        List<Span> old = spans;
+        spans = Collections.emptyList();    // All spans are parsed again if the update does not finish
+        program = null;
+        reparsed = 0;
+        int shift = added - removed;
+        int eof = lexer.size() - 1;
+        List<Span> next = new ArrayList<Span>();
+        int o = 0;                          // Old span to match next
+        int start = 0;
+        for (int end = 1; end <= eof; end++) {
+            if (end < eof && lexer.getType(end) != CoolLexer.CLASS) continue;
+            // The old span with the same tokens, which starts at the same index
+            // before the edit or at the index moved by the edit after it
+            int oldStart = end <= first ? start : start >= first + added ? start - shift : -1;
+            Span kept = null;
+            if (oldStart >= 0) {
+                while (o < old.size() && old.get(o).start < oldStart)
+                    o++;
+                if (o < old.size() && old.get(o).start == oldStart && old.get(o).end == end - start + oldStart)
+                    kept = old.get(o);
+            }
+            int line = lexer.get(start).getLine();
+            if (kept != null) {
+                if (kept.class_ != null && kept.line != line)
+                    new LineShift(line - kept.line).visit(kept.class_);
+                next.add(new Span(start, end, line, kept.class_));
+            } else {
+                next.add(new Span(start, end, line, parse(start, end, deadline)));
+                reparsed++;
+            }
+            start = end;
+        }
+        spans = next;
+
+        List<AST.class_> classes = new ArrayList<AST.class_>(next.size());
+        for (Span s : next) {
+            if (s.class_ == null) return null;
+            classes.add(s.class_);
+        }
+        if (classes.isEmpty()) return null;
+        program = new AST.program(classes, classes.get(0).lineNo);
+        return program;
+    }
+
+    /**
+     * The class of the tokens [start, end), null if they are not one
+     */
+    private AST.class_ parse(int start, int end, Deadline deadline) {
+        AST.program parsed = analyzer.parse(lexer.slice(start, end), filename, deadline);
+        return parsed != null ? parsed.classes.get(0) : null;
+    }
+
+    /**
+     * Moves the lines of all the nodes of a class
+     */
+    private static final class LineShift extends ASTBaseVisitor {
+        private final int shift;
+
+        LineShift(int shift) {
+            this.shift = shift;
+        }
+
+        @Override
+        public void visit(AST.class_ node) {
+            node.lineNo += shift;
+            super.visit(node);
+        }
+
+        @Override
+        public void visit(AST.attr node) {
+            node.lineNo += shift;
+            super.visit(node);
+        }
+
+        @Override
+        public void visit(AST.method node) {
+            node.lineNo += shift;
+            for (AST.formal f : node.formals)
+                f.lineNo += shift;
+            super.visit(node);
+        }
+
+        @Override
+        public void visit(AST.branch node) {
+            node.lineNo += shift;
+            super.visit(node);
+        }
+
+        @Override
+        public void visit(AST.no_expr node) {
+            node.lineNo += shift;
+        }
+
+        @Override
+        public void visit(AST.bool_const node) {
+            node.lineNo += shift;
+        }
+
+        @Override
+        public void visit(AST.string_const node) {
+            node.lineNo += shift;
+        }
+
+        @Override
+        public void visit(AST.int_const node) {
+            node.lineNo += shift;
+        }
+
+        @Override
+        public void visit(AST.object node) {
+            node.lineNo += shift;
+        }
+
+        @Override
+        public void visit(AST.comp node) {
+            node.lineNo += shift;
+            super.visit(node);
+        }
+
+        @Override
+        public void visit(AST.eq node) {
+            node.lineNo += shift;
+            super.visit(node);
+        }
+
+        @Override
+        public void visit(AST.leq node) {
+            node.lineNo += shift;
+            super.visit(node);
+        }
+
+        @Override
+        public void visit(AST.lt node) {
+            node.lineNo += shift;
+            super.visit(node);
+        }
+
+        @Override
+        public void visit(AST.neg node) {
+            node.lineNo += shift;
+            super.visit(node);
+        }
+
+        @Override
+        public void visit(AST.divide node) {
+            node.lineNo += shift;
+            super.visit(node);
+        }
+
+        @Override
+        public void visit(AST.mul node) {
+            node.lineNo += shift;
+            super.visit(node);
+        }
+
+        @Override
+        public void visit(AST.sub node) {
+            node.lineNo += shift;
+            super.visit(node);
+        }
+
+        @Override
+        public void visit(AST.plus node) {
+            node.lineNo += shift;
+            super.visit(node);
+        }
+
+        @Override
+        public void visit(AST.isvoid node) {
+            node.lineNo += shift;
+            super.visit(node);
+        }
+
+        @Override
+        public void visit(AST.new_ node) {
+            node.lineNo += shift;
+        }
+
+        @Override
+        public void visit(AST.assign node) {
+            node.lineNo += shift;
+            super.visit(node);
+        }
+
+        @Override
+        public void visit(AST.block node) {
+            node.lineNo += shift;
+            super.visit(node);
+        }
+
+        @Override
+        public void visit(AST.loop node) {
+            node.lineNo += shift;
+            super.visit(node);
+        }
+
+        @Override
+        public void visit(AST.cond node) {
+            node.lineNo += shift;
+            super.visit(node);
+        }
+
+        @Override
+        public void visit(AST.let node) {
+            node.lineNo += shift;
+            super.visit(node);
+        }
+
+        @Override
+        public void visit(AST.dispatch node) {
+            node.lineNo += shift;
+            super.visit(node);
+        }
+
+        @Override
+        public void visit(AST.typcase node) {
+            node.lineNo += shift;
+            super.visit(node);
+        }
+
+        @Override
+        public void visit(AST.static_dispatch node) {
+            node.lineNo += shift;
+            super.visit(node);
+        }
+    }
+}
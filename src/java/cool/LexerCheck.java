@@ -0,0 +1,222 @@
+package cool;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.antlr.v4.runtime.ANTLRInputStream;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.misc.Interval;
+
+/**
+ * Differential check and throughput benchmark of FastCoolLexer and ParallelLexer
+ * against CoolLexer.
+ *
+ *   java cool.LexerCheck [--bench ROUNDS] <files, directories or @lists...>
+ *
+ * Every file, and a few prefixes of it to exercise the EOF paths of comments and
+ * strings, is lexed by both lexers; the token streams must agree on the type,
+ * text, line, column and char indexes of every token. ASCII files are also lexed
+ * by FastCoolLexer from a MappedCharStream. Every file is also lexed by a
+ * ParallelLexer cutting it into chunks of a few lines, so that the cuts fall
+ * inside comments and strings. Files of less than 64K chars then take random
+ * edits made of comment, string and operator pieces in an IncrementalLexer,
+ * whose tokens must stay those of a FastCoolLexer on the edited source. With
+ * --bench, every LexerKind then lexes all the files ROUNDS times and their
+ * throughput is printed.
+ */
+public class LexerCheck {
+
+    /**
+     * Prefixes checked per file besides the whole file
+     */
+    private static final int CUTS = 8;
+
+    /**
+     * Chunk size of the checked ParallelLexer
+     */
+    private static final int CHUNK = 64;
+
+    /**
+     * Random edits per file checked on an IncrementalLexer, and the largest file
+     * they are made on
+     */
+    private static final int EDITS = 40;
+    private static final int EDITED_SIZE = 1 << 16;
+
+    /**
+     * Pieces the random edits insert
+     */
+    private static final String[] PIECES = { "", "x", "Ab", "1", " ", "\n", "\t", "\"", "\\", "\\\n", "(*", "*)", "(",
+                                              "*", ")", "--", "-", "<", "=", ">", "<-", "\0", "class", "elsE", "true",
+                                              "\"abc\"", "(* x *)", "\u00e9" };
+
+    public static void main(String[] args) throws IOException {
+        int rounds = 0;
+        int first = 0;
+        if (args.length > 1 && args[0].equals("--bench")) {
+            rounds = Integer.parseInt(args[1]);
+            first = 2;
+        }
+        if (args.length <= first) {
+            System.err.println("Usage: LexerCheck [--bench ROUNDS] <files, directories or @lists...>");
+            System.exit(1);
+        }
+        List<String> files = SemanticTest.collectFiles(Arrays.copyOfRange(args, first, args.length));
+        List<String> sources = new ArrayList<String>();
+        int mismatches = 0;
+        for (String f : files) {
+            String source;
+            try (InputStream in = Files.newInputStream(Paths.get(f))) {
+                ANTLRInputStream input = new ANTLRInputStream(in);
+                source = input.getText(Interval.of(0, input.size() - 1));
+            }
+            sources.add(source);
+            for (int cut = 1; cut <= CUTS; cut++) {
+                int length = (int) ((long) source.length() * cut / CUTS);
+                if (!compare(f, source.substring(0, length), null)) {
+                    mismatches++;
+                    break;
+                }
+            }
+            if (source.chars().allMatch(c -> c < 0x80)
+                && !compare(f, source, MappedCharStream.map(Paths.get(f)))) {
+                mismatches++;
+            }
+            if (!compareTokens(f, source, new ParallelLexer(new ANTLRInputStream(source), Deadline.unlimited(), CHUNK))) {
+                mismatches++;
+            }
+            if (source.length() < EDITED_SIZE && !checkEdits(f, source)) {
+                mismatches++;
+            }
+        }
+        System.out.println(files.size() + " files, " + mismatches + " with different tokens");
+        if (rounds > 0) {
+            bench(sources, rounds);
+        }
+        if (mismatches > 0)
+            System.exit(1);
+    }
+
+    /**
+     * Compares the tokens CoolLexer makes of the source with those of FastCoolLexer
+     * on the given stream, or on a copy of the source if it is null
+     */
+    private static boolean compare(String file, String source, CharStream fastInput) {
+        return compareTokens(file, source, new FastCoolLexer(fastInput != null ? fastInput : new ANTLRInputStream(source)));
+    }
+
+    /**
+     * Compares the tokens CoolLexer makes of the source with those of the given lexer
+     */
+    private static boolean compareTokens(String file, String source, TokenSource actual) {
+        TokenSource expected = new CoolLexer(new ANTLRInputStream(source));
+        for (int i = 0; ; i++) {
+            String e = describe(expected.nextToken());
+            String a = describe(actual.nextToken());
+            if (!e.equals(a)) {
+                System.out.println(file + " (" + source.length() + " chars): token " + i
+                                   + ": expected " + e + ", got " + a);
+                return false;
+            }
+            if (e.startsWith("-1 ")) return true;
+        }
+    }
+
+    /**
+     * Makes random edits to the source in an IncrementalLexer and compares its
+     * tokens with those FastCoolLexer makes of the edited source. The tokens out
+     * of the changed window must be the old ones.
+     */
+    private static boolean checkEdits(String file, String source) {
+        Random random = new Random(file.hashCode());
+        IncrementalLexer lexer = new IncrementalLexer(source);
+        String[] before = describeTypes(lexer);
+        for (int e = 0; e < EDITS; e++) {
+            String text = lexer.getSource();
+            int offset = random.nextInt(text.length() + 1);
+            int length = Math.min(text.length() - offset, random.nextInt(4));
+            String piece = PIECES[random.nextInt(PIECES.length)];
+            String edit = "edit " + e + " (" + offset + "+" + length + " -> '"
+                          + SemanticTest.escapeSpecialCharacters(piece) + "')";
+            IncrementalLexer.Window w = lexer.edit(offset, length, piece);
+            text = text.substring(0, offset) + piece + text.substring(offset + length);
+
+            FastCoolLexer expected = new FastCoolLexer(new ANTLRInputStream(text));
+            for (int i = 0; i < lexer.size(); i++) {
+                String t = describe(expected.nextToken());
+                String a = describe(lexer.get(i));
+                if (!t.equals(a)) {
+                    System.out.println(file + ": " + edit + ": token " + i + ": expected " + t + ", got " + a);
+                    return false;
+                }
+            }
+            if (expected.nextToken().getType() != Token.EOF || lexer.getType(lexer.size() - 1) != Token.EOF) {
+                System.out.println(file + ": " + edit + ": wrong token count " + lexer.size());
+                return false;
+            }
+            String[] after = describeTypes(lexer);
+            for (int i = 0; i < after.length; i++) {
+                String old = i < w.first ? before[i] : i >= w.first + w.added ? before[i - w.added + w.removed] : null;
+                if (old != null && !old.equals(after[i])) {
+                    System.out.println(file + ": " + edit + ": token " + i + " out of " + w + " changed");
+                    return false;
+                }
+            }
+            before = after;
+        }
+        return true;
+    }
+
+    /**
+     * Type and text of every token
+     */
+    private static String[] describeTypes(IncrementalLexer lexer) {
+        String[] tokens = new String[lexer.size()];
+        for (int i = 0; i < tokens.length; i++) {
+            Token t = lexer.get(i);
+            tokens[i] = t.getType() + " '" + t.getText() + "'";
+        }
+        return tokens;
+    }
+
+    private static String describe(Token t) {
+        return t.getType() + " '" + SemanticTest.escapeSpecialCharacters(t.getText()) + "' " + t.getLine()
+               + ":" + t.getCharPositionInLine() + " [" + t.getStartIndex() + ".." + t.getStopIndex() + "] "
+               + t.getChannel();
+    }
+
+    private static void bench(List<String> sources, int rounds) {
+        long chars = 0;
+        for (String s : sources)
+            chars += s.length();
+        for (CoolAnalyzer.LexerKind kind : CoolAnalyzer.LexerKind.values()) {
+            lexAll(sources, kind); // Warm-up
+            long tokens = 0;
+            long start = System.nanoTime();
+            for (int r = 0; r < rounds; r++)
+                tokens += lexAll(sources, kind);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf("%-8s %8.1f MB/s %10.0f tokens/s%n", kind.name().toLowerCase(),
+                              chars * rounds / seconds / 1e6, tokens / seconds);
+        }
+    }
+
+    private static long lexAll(List<String> sources, CoolAnalyzer.LexerKind kind) {
+        long tokens = 0;
+        for (String s : sources) {
+            CharStream input = new ANTLRInputStream(s);
+            TokenSource lexer = new CoolAnalyzer(0, kind).newLexer(input, Deadline.unlimited());
+            while (lexer.nextToken().getType() != Token.EOF)
+                tokens++;
+        }
+        return tokens;
+    }
+}
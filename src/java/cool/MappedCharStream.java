@@ -0,0 +1,134 @@
+package cool;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.IntStream;
+import org.antlr.v4.runtime.misc.Interval;
+
+/**
+ * Read-only CharStream over a memory-mapped source file, one char per byte.
+ *
+ * Unlike ANTLRInputStream it does not copy the file into a char[] before lexing:
+ * the lexer reads the mapped pages directly and token text is only turned into a
+ * String when getText() is called on a token. Cool sources are ASCII; the first
+ * byte outside it throws NonAsciiInput so that the caller can fall back to a
+ * decoding stream and get the same characters as ANTLRInputStream would.
+ */
+public class MappedCharStream implements CharStream {
+
+    private final ByteBuffer data;
+    private final int n;
+    private final String name;
+    private int p = 0;
+
+    public MappedCharStream(ByteBuffer data, String name) {
+        this.data = data;
+        this.n = data.limit();
+        this.name = name;
+    }
+
+    /**
+     * Maps the whole file
+     * @param file
+     * @return
+     * @throws IOException if the file can't be read or is over 2 GB
+     */
+    public static MappedCharStream map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE)
+                throw new IOException(file + " is too large to map");
+            // The mapping stays valid after the channel is closed
+            return new MappedCharStream(channel.map(FileChannel.MapMode.READ_ONLY, 0, size), file.toString());
+        }
+    }
+
+    /**
+     * Thrown when the source turns out not to be ASCII
+     */
+    public static class NonAsciiInput extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        NonAsciiInput(int index) {
+            super("non-ASCII byte at offset " + index, null, false, false);
+        }
+    }
+
+    private int charAt(int i) {
+        byte b = data.get(i);
+        if (b < 0) throw new NonAsciiInput(i);
+        return b;
+    }
+
+    @Override
+    public void consume() {
+        if (p >= n) throw new IllegalStateException("cannot consume EOF");
+        p++;
+    }
+
+    @Override
+    public int LA(int i) {
+        if (i == 0) return 0; // undefined
+        if (i < 0) {
+            i++; // LA(-1) is the char before p
+            if (p + i - 1 < 0) return IntStream.EOF;
+        }
+        if (p + i - 1 >= n) return IntStream.EOF;
+        return charAt(p + i - 1);
+    }
+
+    @Override
+    public int mark() {
+        return -1; // Nothing is buffered, there is nothing to keep
+    }
+
+    @Override
+    public void release(int marker) {
+    }
+
+    @Override
+    public int index() {
+        return p;
+    }
+
+    @Override
+    public void seek(int index) {
+        p = Math.min(index, n);
+    }
+
+    @Override
+    public int size() {
+        return n;
+    }
+
+    @Override
+    public String getSourceName() {
+        return name;
+    }
+
+    @Override
+    public String getText(Interval interval) {
+        int start = interval.a;
+        int stop = Math.min(interval.b, n - 1);
+        if (start >= n || stop < start) return "";
+        byte[] bytes = new byte[stop - start + 1];
+        ByteBuffer slice = data.duplicate();
+        slice.position(start);
+        slice.get(bytes);
+        for (int i = 0; i < bytes.length; i++) {
+            if (bytes[i] < 0) throw new NonAsciiInput(start + i);
+        }
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+
+    @Override
+    public String toString() {
+        return getText(Interval.of(0, n - 1));
+    }
+}
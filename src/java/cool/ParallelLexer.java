@@ -0,0 +1,287 @@
+package cool;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import org.antlr.v4.runtime.ANTLRErrorListener;
+import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.ConsoleErrorListener;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Recognizer;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenFactory;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.misc.Interval;
+
+/**
+ * Lexes one large source on the fork-join pool, with the tokens of the
+ * sequential lexer.
+ *
+ * The source is cut into chunks at lines starting with the keyword class, where
+ * a top-level class usually begins. The newlines of every chunk are counted in
+ * parallel to know the line each chunk starts on, then every chunk is lexed by
+ * a FastCoolLexer starting in DEFAULT_MODE at its first char, up to the first
+ * token it would start at or after the end of the chunk.
+ *
+ * The guess that a chunk starts between two tokens is then checked in order:
+ * it held if the lexer of the chunk before stopped exactly at its start, in
+ * DEFAULT_MODE. Otherwise the cut fell inside a comment, a string or the rest
+ * of a string with a null char. The speculative tokens of the chunk are dropped
+ * and the lexer of the chunk before goes on sequentially over it. Each lexer
+ * holds back its recognition errors; those of the lexers whose tokens are kept
+ * go to the error listeners once all the chunks are lexed.
+ *
+ * All the tokens are held until the parser takes them, so this trades the
+ * memory of the streaming path for lexing on all cores.
+ */
+public class ParallelLexer implements TokenSource {
+
+    /**
+     * Chars per chunk at least, sources of less than two chunks are lexed sequentially
+     */
+    static final int MIN_CHUNK = 1 << 16;
+
+    private final CharStream input;
+    private final Deadline deadline;
+    private final int minChunk;
+    private final FastCoolLexer first;   // Source of the token factory and the line after EOF
+    private final List<ANTLRErrorListener> listeners = new ArrayList<ANTLRErrorListener>();
+
+    private List<List<Token>> chunks;    // Null until lexed
+    private int chunk = 0;
+    private int next = 0;
+    private Token eof;
+
+    public ParallelLexer(CharStream input, Deadline deadline) {
+        this(input, deadline, MIN_CHUNK);
+    }
+
+    /**
+     * @param minChunk  Chars per chunk at least, small to test the cuts
+     */
+    ParallelLexer(CharStream input, Deadline deadline, int minChunk) {
+        this.input = input;
+        this.deadline = deadline;
+        this.minChunk = Math.max(1, minChunk);
+        this.first = new FastCoolLexer(input, 0, 1);
+        this.listeners.add(ConsoleErrorListener.INSTANCE);
+    }
+
+    /**
+     * Listeners of the recognition errors, ANTLR's console listener until removed
+     */
+    public void addErrorListener(ANTLRErrorListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeErrorListeners() {
+        listeners.clear();
+    }
+
+    /**
+     * Lexing task of one chunk
+     */
+    private static class Chunk extends BaseErrorListener {
+        final int from;
+        final int to;
+        int newlines;
+        int line;                       // Line of from
+        FastCoolLexer lexer;
+        final List<Token> tokens = new ArrayList<Token>();
+        final List<Diagnostic> errors = new ArrayList<Diagnostic>();
+
+        Chunk(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line, int charPositionInLine,
+                                String msg, RecognitionException e) {
+            errors.add(new Diagnostic(Diagnostic.Kind.RECOGNITION, null, line, charPositionInLine, msg));
+        }
+    }
+
+    @Override
+    public Token nextToken() {
+        if (chunks == null) lex();
+        while (chunk < chunks.size()) {
+            List<Token> tokens = chunks.get(chunk);
+            if (next < tokens.size()) {
+                Token t = tokens.get(next);
+                tokens.set(next++, null);   // Let the parsed part go
+                if (t.getType() == Token.EOF) eof = t;
+                return t;
+            }
+            chunks.set(chunk++, null);
+            next = 0;
+        }
+        return eof;
+    }
+
+    private void lex() {
+        List<Chunk> cuts = cut();
+        if (cuts.size() > 1) {
+            run(cuts.subList(0, cuts.size() - 1), c -> c.newlines = newlines(c.from, c.to));
+        }
+        int line = 1;
+        for (Chunk c : cuts) {
+            c.line = line;
+            line += c.newlines;
+        }
+        run(cuts, c -> {
+            if (c.from == 0) {
+                c.lexer = first;
+            } else {
+                c.lexer = new FastCoolLexer(input, c.from, c.line);
+                c.lexer.setTokenFactory(first.getTokenFactory());
+            }
+            c.lexer.removeErrorListeners();
+            c.lexer.addErrorListener(c);
+            lexTo(c.lexer, c.to, c.tokens);
+        });
+
+        chunks = new ArrayList<List<Token>>();
+        List<Chunk> kept = new ArrayList<Chunk>();
+        Chunk current = cuts.get(0);
+        kept.add(current);
+        chunks.add(current.tokens);
+        boolean done = false;
+        for (int i = 1; i < cuts.size() && !done; i++) {
+            Chunk c = cuts.get(i);
+            if (current.lexer.position() == c.from) {
+                current = c;
+                kept.add(c);
+                chunks.add(c.tokens);
+            } else {
+                // The cut is inside a lexeme, carry on from where the lexer before stopped
+                List<Token> tokens = new ArrayList<Token>();
+                done = lexTo(current.lexer, c.to, tokens);
+                chunks.add(tokens);
+            }
+        }
+        for (Chunk c : kept) {
+            for (Diagnostic d : c.errors) {
+                for (ANTLRErrorListener listener : listeners)
+                    listener.syntaxError(null, null, d.getLineNo(), d.getColumn(), d.getMessage(), null);
+            }
+        }
+    }
+
+    /**
+     * Lexes the tokens starting before limit
+     * @return  Whether EOF was reached
+     */
+    private boolean lexTo(FastCoolLexer lexer, int limit, List<Token> tokens) {
+        Token t;
+        do {
+            deadline.check();
+            t = lexer.nextToken(limit);
+            if (t == null) return false;
+            tokens.add(t);
+        } while (t.getType() != Token.EOF);
+        return true;
+    }
+
+    /**
+     * Chunks of at least minChunk chars, each but the first starting with class
+     * at the beginning of a line
+     */
+    private List<Chunk> cut() {
+        int n = input.size();
+        int parallelism = Math.max(1, ForkJoinPool.getCommonPoolParallelism());
+        int size = Math.max(minChunk, n / (4 * parallelism));
+        List<Chunk> cuts = new ArrayList<Chunk>();
+        int from = 0;
+        while (n - from >= 2 * size) {
+            int at = findClass(from + size, n - size);
+            if (at < 0) break;
+            cuts.add(new Chunk(from, at));
+            from = at;
+        }
+        cuts.add(new Chunk(from, Integer.MAX_VALUE));
+        return cuts;
+    }
+
+    /**
+     * Index of the first "\nclass" followed by a non-name char at or after from,
+     * pointing at the keyword; -1 if there is none before to
+     */
+    private int findClass(int from, int to) {
+        final int window = 4096;
+        for (int at = from; at < to; at += window) {
+            String text = input.getText(Interval.of(at - 1, Math.min(to, at + window) + 5));
+            // The '\n' at text index i is at index at - 1 + i, the keyword right after it
+            for (int i = text.indexOf('\n'); i >= 0 && at + i < to; i = text.indexOf('\n', i + 1)) {
+                if (text.regionMatches(true, i + 1, "class", 0, 5)
+                    && (i + 6 >= text.length() || !isNameChar(text.charAt(i + 6))))
+                    return at + i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isNameChar(char c) {
+        return c == '_' || (c >= '0' && c <= '9') || (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+    }
+
+    private int newlines(int from, int to) {
+        int count = 0;
+        for (int at = from; at < to; at += 1 << 16) {
+            String text = input.getText(Interval.of(at, Math.min(to, at + (1 << 16)) - 1));
+            for (int i = 0; i < text.length(); i++) {
+                if (text.charAt(i) == '\n') count++;
+            }
+        }
+        return count;
+    }
+
+    private interface ChunkTask {
+        void run(Chunk c);
+    }
+
+    private void run(List<Chunk> cuts, ChunkTask task) {
+        List<ForkJoinTask<Object>> tasks = new ArrayList<ForkJoinTask<Object>>();
+        for (Chunk c : cuts) {
+            tasks.add(ForkJoinTask.adapt((Callable<Object>) () -> {
+                task.run(c);
+                return null;
+            }));
+        }
+        ForkJoinTask.invokeAll(tasks);
+    }
+
+    @Override
+    public int getLine() {
+        return eof != null ? eof.getLine() : 1;
+    }
+
+    @Override
+    public int getCharPositionInLine() {
+        return eof != null ? eof.getCharPositionInLine() : 0;
+    }
+
+    @Override
+    public CharStream getInputStream() {
+        return input;
+    }
+
+    @Override
+    public String getSourceName() {
+        return input.getSourceName();
+    }
+
+    @Override
+    public void setTokenFactory(TokenFactory<?> factory) {
+        first.setTokenFactory(factory);
+    }
+
+    @Override
+    public TokenFactory<?> getTokenFactory() {
+        return first.getTokenFactory();
+    }
+}
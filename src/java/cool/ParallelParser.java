@@ -0,0 +1,273 @@
+package cool;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinTask;
+
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.RuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.Interval;
+
+/**
+ * Parses the classes of one large source on the fork-join pool.
+ *
+ * A program is a list of classes and the keyword class only starts one, so
+ * the filled token buffer is cut before class tokens into slices of at least
+ * minTokens tokens. Each slice is parsed by its own CoolParser calling class_
+ * up to an EOF put at the end of the slice, in SLL mode with the bail-out
+ * strategy as the first stage of SLL_LL. The classes are then put together in
+ * source order.
+ *
+ * Parsing reports no errors: if any slice fails the result is null, and the
+ * caller parses the whole source again in LL mode, so a syntax error has the
+ * file and line of the sequential parse.
+ */
+public class ParallelParser {
+
+    /**
+     * Tokens per slice at least, sources of less than two slices are parsed on
+     * the calling thread
+     */
+    static final int MIN_TOKENS = 1 << 14;
+
+    private final CompactTokenStream tokens;
+    private final String filename;
+    private final Deadline deadline;
+    private final int minTokens;
+
+    /**
+     * Stops the parse of a slice when another one failed
+     */
+    private static final class Cancelled extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        Cancelled() {
+            super("another slice failed", null, false, false);
+        }
+    }
+
+    private static final Cancelled CANCELLED = new Cancelled();
+
+    private volatile boolean failed;
+
+    public ParallelParser(CompactTokenStream tokens, String filename, Deadline deadline) {
+        this(tokens, filename, deadline, MIN_TOKENS);
+    }
+
+    /**
+     * @param minTokens  Tokens per slice at least, small to test the cuts
+     */
+    ParallelParser(CompactTokenStream tokens, String filename, Deadline deadline, int minTokens) {
+        this.tokens = tokens;
+        this.filename = filename;
+        this.deadline = deadline;
+        this.minTokens = Math.max(1, minTokens);
+    }
+
+    /**
+     * Parsing task of the tokens [from, to)
+     */
+    private static class Slice {
+        final int from;
+        final int to;
+        List<AST.class_> classes;       // Null if the slice failed to parse
+        RuntimeException error;         // Deadline or input failure, rethrown by the caller
+
+        Slice(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+    }
+
+    /**
+     * Parses all the tokens
+     * @return  The program, or null if the tokens are not one or SLL could not
+     *          predict a decision
+     */
+    public AST.program parse() {
+        tokens.fill();
+        if (tokens.getType(0) != CoolLexer.CLASS) return null;
+        List<Slice> slices = cut();
+        if (slices.size() == 1) {
+            parse(slices.get(0));
+        } else {
+            List<ForkJoinTask<Object>> tasks = new ArrayList<ForkJoinTask<Object>>();
+            for (Slice s : slices) {
+                tasks.add(ForkJoinTask.adapt((Callable<Object>) () -> {
+                    parse(s);
+                    return null;
+                }));
+            }
+            ForkJoinTask.invokeAll(tasks);
+        }
+        List<AST.class_> classes = new ArrayList<AST.class_>();
+        for (Slice s : slices) {
+            if (s.error != null) throw s.error;
+        }
+        for (Slice s : slices) {
+            if (s.classes == null) return null;
+            classes.addAll(s.classes);
+        }
+        return new AST.program(classes, classes.get(0).lineNo);
+    }
+
+    /**
+     * Slices of at least minTokens tokens before EOF, each starting with class
+     */
+    private List<Slice> cut() {
+        int eof = tokens.size() - 1;
+        List<Slice> slices = new ArrayList<Slice>();
+        int from = 0;
+        for (int i = minTokens; i < eof; i++) {
+            if (tokens.getType(i) == CoolLexer.CLASS && eof - i >= minTokens) {
+                slices.add(new Slice(from, i));
+                from = i;
+                i += minTokens - 1;
+            }
+        }
+        slices.add(new Slice(from, eof));
+        return slices;
+    }
+
+    private void parse(Slice s) {
+        if (failed) return;
+        SliceStream stream = new SliceStream(s.from, s.to);
+        CoolParser parser = new CoolParser(stream);
+        parser.setBuildParseTree(false);
+        parser.removeErrorListeners();
+        parser.setErrorHandler(new BailErrorStrategy());
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        parser.setFilename(filename);
+        try {
+            List<AST.class_> classes = new ArrayList<AST.class_>();
+            do {
+                classes.add(parser.class_().value);
+            } while (stream.LA(1) == CoolLexer.CLASS);
+            if (stream.LA(1) == Token.EOF) {
+                s.classes = classes;
+                return;
+            }
+        } catch (Deadline.Expired | MappedCharStream.NonAsciiInput e) {
+            s.error = e;
+        } catch (RuntimeException | StackOverflowError e) {
+            // ParseCancellationException, an action that failed on a wrong prediction, or Cancelled;
+            // a class nested too deeply fails again, with its diagnostic, in the LL parse
+        }
+        failed = true;
+    }
+
+    /**
+     * The tokens [from, to) of the buffer as a stream of their own, indexed from
+     * 0 and ending with an EOF token at the place of the token at to
+     */
+    private class SliceStream implements TokenStream {
+        private static final int RECENT = 16;   // Power of two
+
+        private final int from;
+        private final int length;               // Index of EOF
+        private final Token[] recent = new Token[RECENT];
+        private int p = 0;
+
+        SliceStream(int from, int to) {
+            this.from = from;
+            this.length = to - from;
+        }
+
+        @Override
+        public Token get(int i) {
+            if (i < 0 || i > length)
+                throw new IndexOutOfBoundsException("token index " + i + " out of range 0.." + length);
+            Token t = recent[i & (RECENT - 1)];
+            if (t != null && t.getTokenIndex() == i) return t;
+            t = tokens.newToken(from + i, i == length ? Token.EOF : tokens.getType(from + i), i);
+            recent[i & (RECENT - 1)] = t;
+            return t;
+        }
+
+        @Override
+        public Token LT(int k) {
+            if (k == 0) return null;
+            int i = k > 0 ? p + k - 1 : p + k;
+            if (i < 0) return null;
+            return get(Math.min(i, length));
+        }
+
+        @Override
+        public int LA(int k) {
+            if (k == 0) return Token.INVALID_TYPE;
+            int i = k > 0 ? p + k - 1 : p + k;
+            if (i < 0) return Token.INVALID_TYPE;
+            return i >= length ? Token.EOF : tokens.getType(from + i);
+        }
+
+        @Override
+        public void consume() {
+            if (p >= length) throw new IllegalStateException("cannot consume EOF");
+            if (failed) throw CANCELLED;
+            deadline.check();
+            p++;
+        }
+
+        @Override
+        public int mark() {
+            return 0;
+        }
+
+        @Override
+        public void release(int marker) {
+        }
+
+        @Override
+        public int index() {
+            return p;
+        }
+
+        @Override
+        public void seek(int index) {
+            p = Math.min(index, length);
+        }
+
+        @Override
+        public int size() {
+            return length + 1;
+        }
+
+        @Override
+        public String getSourceName() {
+            return tokens.getSourceName();
+        }
+
+        @Override
+        public TokenSource getTokenSource() {
+            return tokens.getTokenSource();
+        }
+
+        @Override
+        public String getText(Interval interval) {
+            int start = Math.max(0, interval.a);
+            int stop = Math.min(interval.b, length - 1);
+            return start > stop ? "" : tokens.getText(Interval.of(from + start, from + stop));
+        }
+
+        @Override
+        public String getText() {
+            return getText(Interval.of(0, length - 1));
+        }
+
+        @Override
+        public String getText(RuleContext ctx) {
+            return getText(ctx.getSourceInterval());
+        }
+
+        @Override
+        public String getText(Token start, Token stop) {
+            if (start == null || stop == null) return "";
+            return getText(Interval.of(start.getTokenIndex(), stop.getTokenIndex()));
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package cool;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.antlr.v4.runtime.ANTLRInputStream;
+import org.antlr.v4.runtime.misc.Interval;
+
+/**
+ * Differential check and throughput benchmark of the parse modes.
+ *
+ *   java cool.ParserCheck [--bench ROUNDS] <files, directories or @lists...>
+ *
+ * Every file is analyzed once per ParseMode; the outcomes, the diagnostics and
+ * the printed ASTs must be the same. It is also parsed by a ParallelParser cutting
+ * before every class, which must give the classes of the sequential parse or fail
+ * where that fails. Files of less than 64K chars then take random edits, half of
+ * them undone, in an IncrementalParser, which must give the classes of a parse of
+ * the edited source. With --bench, every mode then parses all the files ROUNDS
+ * times after a warm-up round and its throughput is printed.
+ */
+public class ParserCheck {
+
+    /**
+     * Random edits per file checked on an IncrementalParser, and the largest file
+     * they are made on
+     */
+    private static final int EDITS = 20;
+    private static final int EDITED_SIZE = 1 << 16;
+
+    /**
+     * Pieces the random edits insert, mostly ones that keep the source a program
+     */
+    private static final String[] PIECES = { "", " ", "\n", "\n\n", "\t", "-- x\n", "(* \n *)", "x", "1", "+", ";",
+                                              "(", ")", "{", "}", "class", "class A { };\n", "let", "\"" };
+
+    public static void main(String[] args) throws IOException {
+        int rounds = 0;
+        int first = 0;
+        if (args.length > 1 && args[0].equals("--bench")) {
+            rounds = Integer.parseInt(args[1]);
+            first = 2;
+        }
+        if (args.length <= first) {
+            System.err.println("Usage: ParserCheck [--bench ROUNDS] <files, directories or @lists...>");
+            System.exit(1);
+        }
+        List<String> files = SemanticTest.collectFiles(Arrays.copyOfRange(args, first, args.length));
+        CoolAnalyzer.ParseMode[] modes = CoolAnalyzer.ParseMode.values();
+        List<String> sources = new ArrayList<String>();
+        int mismatches = 0;
+        for (String f : files) {
+            try (InputStream in = Files.newInputStream(Paths.get(f))) {
+                ANTLRInputStream input = new ANTLRInputStream(in);
+                sources.add(input.getText(Interval.of(0, input.size() - 1)));
+            }
+            String expected = describe(analyzer(modes[0]).analyze(Paths.get(f)));
+            for (int m = 1; m < modes.length; m++) {
+                String actual = describe(analyzer(modes[m]).analyze(Paths.get(f)));
+                if (!expected.equals(actual)) {
+                    System.out.println(f + ": " + modes[0] + " gives\n" + expected + modes[m] + " gives\n" + actual);
+                    mismatches++;
+                }
+            }
+            String source = sources.get(sources.size() - 1);
+            if (!checkSlices(f, source) || source.length() < EDITED_SIZE && !checkEdits(f, source)) {
+                mismatches++;
+            }
+        }
+        System.out.println(files.size() + " files, " + mismatches + " with different results");
+        if (rounds > 0) {
+            bench(files, sources, rounds);
+        }
+        if (mismatches > 0)
+            System.exit(1);
+    }
+
+    private static CoolAnalyzer analyzer(CoolAnalyzer.ParseMode mode) {
+        return new CoolAnalyzer(0, CoolAnalyzer.LexerKind.configured(), mode);
+    }
+
+    private static boolean checkSlices(String file, String source) {
+        CoolAnalyzer.ParsedUnit unit = analyzer(CoolAnalyzer.ParseMode.LL)
+            .parse(new ANTLRInputStream(source), file, Deadline.unlimited());
+        CompactTokenStream tokens = new CompactTokenStream(
+            analyzer(CoolAnalyzer.ParseMode.LL).newLexer(new ANTLRInputStream(source), Deadline.unlimited()));
+        AST.program sliced = new ParallelParser(tokens, file, Deadline.unlimited(), 1).parse();
+        String expected = unit.outcome == AnalysisResult.Outcome.PASSED ? describe(unit.classes) : "no program\n";
+        String actual = sliced != null ? describe(sliced.classes) : "no program\n";
+        if (expected.equals(actual)) return true;
+        System.out.println(file + ": sequential parse gives\n" + expected + "parse by classes gives\n" + actual);
+        return false;
+    }
+
+    /**
+     * Makes random edits to the source in an IncrementalParser, undoing half of
+     * them, and compares its program with that of a parse of the edited source
+     */
+    private static boolean checkEdits(String file, String source) {
+        Random random = new Random(file.hashCode());
+        CoolAnalyzer analyzer = analyzer(CoolAnalyzer.ParseMode.SLL_LL);
+        IncrementalParser parser = new IncrementalParser(analyzer, file, source, Deadline.unlimited());
+        String text = source;
+        for (int e = 0; e < EDITS; e++) {
+            int offset = random.nextInt(text.length() + 1);
+            int length = Math.min(text.length() - offset, random.nextInt(3));
+            String piece = PIECES[random.nextInt(PIECES.length)];
+            String removed = text.substring(offset, offset + length);
+            for (int undo = 0; undo < (random.nextBoolean() ? 2 : 1); undo++) {
+                String edit = "edit " + e + (undo > 0 ? " undone" : "") + " (" + offset + "+" + length + " -> '"
+                              + SemanticTest.escapeSpecialCharacters(piece) + "')";
+                if (undo == 0) {
+                    parser.edit(offset, length, piece, Deadline.unlimited());
+                    text = text.substring(0, offset) + piece + text.substring(offset + length);
+                } else {
+                    parser.edit(offset, piece.length(), removed, Deadline.unlimited());
+                    text = text.substring(0, offset) + removed + text.substring(offset + piece.length());
+                }
+                CoolAnalyzer.ParsedUnit unit = analyzer.parse(new ANTLRInputStream(text), file, Deadline.unlimited());
+                String expected = unit.outcome == AnalysisResult.Outcome.PASSED ? describe(unit.classes) : "no program\n";
+                AST.program program = parser.getProgram();
+                String actual = program != null ? describe(program.classes) : "no program\n";
+                if (!expected.equals(actual)) {
+                    System.out.println(file + ": " + edit + ": parse gives\n" + expected + "incremental parse gives\n"
+                                       + actual);
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static String describe(List<AST.class_> classes) {
+        StringBuilder text = new StringBuilder();
+        for (AST.class_ c : classes)
+            text.append(c.getString("")).append('\n');
+        return text.toString();
+    }
+
+    private static String describe(AnalysisResult result) {
+        StringBuilder text = new StringBuilder(result.getOutcome().getDescription()).append('\n');
+        for (Diagnostic d : result.getDiagnostics())
+            text.append(d).append('\n');
+        if (result.getProgram() != null)
+            text.append(result.getProgram().getString("")).append('\n');
+        return text.toString();
+    }
+
+    private static void bench(List<String> files, List<String> sources, int rounds) {
+        long chars = 0;
+        for (String s : sources)
+            chars += s.length();
+        for (CoolAnalyzer.ParseMode mode : CoolAnalyzer.ParseMode.values()) {
+            CoolAnalyzer analyzer = analyzer(mode);
+            parseAll(analyzer, files, sources); // Warm-up
+            long start = System.nanoTime();
+            for (int r = 0; r < rounds; r++)
+                parseAll(analyzer, files, sources);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf("%-8s %8.1f MB/s %10.1f ms/round%n", mode.name().toLowerCase(),
+                              chars * rounds / seconds / 1e6, seconds * 1000 / rounds);
+        }
+    }
+
+    private static void parseAll(CoolAnalyzer analyzer, List<String> files, List<String> sources) {
+        for (int i = 0; i < sources.size(); i++) {
+            analyzer.parse(new ANTLRInputStream(sources.get(i)), files.get(i), Deadline.unlimited());
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package cool;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import org.antlr.v4.runtime.ANTLRInputStream;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.atn.DecisionInfo;
+import org.antlr.v4.runtime.atn.DecisionState;
+
+/**
+ * Parses sources with ANTLR's profiling ATN simulator and reports the cost of
+ * every decision of CoolParser.
+ *
+ * The sources are parsed as the LL stage does, in LL prediction mode, which
+ * tries SLL first at every decision and falls back to full context prediction
+ * on a conflict. Per decision the report gives the rule it belongs to, how often
+ * it was predicted, the time spent predicting it, the average and longest SLL
+ * lookahead, the LL fallbacks with their longest lookahead, and the ambiguities,
+ * context sensitivities and prediction errors met. Decisions are ranked by time.
+ *
+ * The DFAs are those shared by all the parsers, so a decision costs less on
+ * each file as they warm up, as in a long running process.
+ */
+public class ParserProfile {
+
+    /**
+     * Totals of one decision over all the files
+     */
+    private static final class Decision {
+        final int decision;
+        final String rule;
+        long invocations;
+        long time;                  // ns
+        long sllLook;
+        long sllMax;
+        long llFallbacks;
+        long llLook;
+        long llMax;
+        long ambiguities;
+        long contextSensitivities;
+        long errors;
+
+        Decision(int decision, String rule) {
+            this.decision = decision;
+            this.rule = rule;
+        }
+
+        void add(DecisionInfo info) {
+            invocations += info.invocations;
+            time += info.timeInPrediction;
+            sllLook += info.SLL_TotalLook;
+            sllMax = Math.max(sllMax, info.SLL_MaxLook);
+            llFallbacks += info.LL_Fallback;
+            llLook += info.LL_TotalLook;
+            llMax = Math.max(llMax, info.LL_MaxLook);
+            ambiguities += info.ambiguities.size();
+            contextSensitivities += info.contextSensitivities.size();
+            errors += info.errors.size();
+        }
+    }
+
+    private final CoolAnalyzer analyzer;
+    private final Decision[] decisions;
+    private int files = 0;
+    private long tokens = 0;
+    private long parseTime = 0;    // ns
+
+    /**
+     * @param analyzer  Gives the lexer of the sources
+     */
+    public ParserProfile(CoolAnalyzer analyzer) {
+        this.analyzer = analyzer;
+        decisions = new Decision[CoolParser._ATN.getNumberOfDecisions()];
+        for (int d = 0; d < decisions.length; d++) {
+            DecisionState state = CoolParser._ATN.getDecisionState(d);
+            decisions[d] = new Decision(d, CoolParser.ruleNames[state.ruleIndex]);
+        }
+    }
+
+    /**
+     * Parses one source with profiling, adding its decisions to the totals
+     */
+    public void profile(CharStream input, String filename) {
+        CompactTokenStream stream = new CompactTokenStream(analyzer.newLexer(input, Deadline.unlimited()));
+        stream.fill();
+        CoolParser parser = new CoolParser(stream);
+        parser.setBuildParseTree(false);
+        parser.removeErrorListeners();
+        parser.setFilename(filename);
+        parser.setProfile(true);
+        long start = System.nanoTime();
+        try {
+            parser.program();
+        } catch (RuntimeException e) {
+            // An action failing after a syntax error; the decisions so far still count
+        }
+        parseTime += System.nanoTime() - start;
+        for (DecisionInfo info : parser.getParseInfo().getDecisionInfo())
+            decisions[info.decision].add(info);
+        files++;
+        tokens += stream.size();
+    }
+
+    /**
+     * Prints the decisions that were predicted, the most expensive first
+     */
+    public void print(PrintStream out) {
+        List<Decision> ranked = new ArrayList<Decision>();
+        long predictionTime = 0;
+        for (Decision d : decisions) {
+            predictionTime += d.time;
+            if (d.invocations > 0) ranked.add(d);
+        }
+        Collections.sort(ranked, Comparator.comparingLong((Decision d) -> d.time).reversed());
+        out.printf("%d files, %d tokens, %.1f ms parsing of which %.1f ms predicting%n",
+                   files, tokens, parseTime / 1e6, predictionTime / 1e6);
+        out.println(DfaCache.stats());
+        out.printf("%4s %4s %-22s %10s %9s %8s %6s %9s %8s %6s %6s %6s %6s%n", "rank", "dec", "rule", "calls", "ms",
+                   "SLL avg", "max", "LL falls", "LL avg", "max", "ambig", "ctx", "errors");
+        int rank = 1;
+        for (Decision d : ranked) {
+            out.printf("%4d %4d %-22s %10d %9.2f %8.2f %6d %9d %8.2f %6d %6d %6d %6d%n", rank++, d.decision, d.rule,
+                       d.invocations, d.time / 1e6, (double) d.sllLook / d.invocations, d.sllMax, d.llFallbacks,
+                       d.llFallbacks > 0 ? (double) d.llLook / d.llFallbacks : 0.0, d.llMax, d.ambiguities,
+                       d.contextSensitivities, d.errors);
+        }
+    }
+
+    /**
+     * Profiles the parse of the given files and prints the report, for the
+     * --profile-parser option of SemanticTest
+     */
+    static int run(CoolAnalyzer analyzer, List<String> files, PrintStream out, PrintStream err) {
+        ParserProfile profile = new ParserProfile(analyzer);
+        for (String f : files) {
+            try (InputStream in = Files.newInputStream(Paths.get(f))) {
+                profile.profile(new ANTLRInputStream(in), f);
+            } catch (IOException e) {
+                err.println(f + ": " + e.getMessage());
+                return 1;
+            }
+        }
+        profile.print(out);
+        return 0;
+    }
+}
@@ -27,25 +27,35 @@ public class Semantic{
 
 	// ArrayList<ArrayList<Integer>> classGraph = new ArrayList<ArrayList<Integer>>();
 
+	private ClassGraph graph;
+
 	public Semantic(AST.program program){
+		this(program, new ErrorHandler());
+	}
+
+	public Semantic(AST.program program, ErrorHandler errors){
+		this(program, errors, Deadline.unlimited());
+	}
+
+	public Semantic(AST.program program, ErrorHandler errors, Deadline deadline){
 		//Write Semantic analyzer code here
 
-		ClassGraph graph = new ClassGraph();
+		graph = new ClassGraph(errors);
 
 		ASTVisitor pass1 = new InfoGatherPass(graph);
 		program.accept(pass1);
 
-		if(ErrorHandler.getErrorFlag()) {
-			System.exit(1);
+		if(errors.getErrorFlag()) {
+			return;
 		}
 		
-		ASTVisitor pass2 = new SemanticCheckPass(graph);
+		ASTVisitor pass2 = new SemanticCheckPass(graph, deadline);
 		program.accept(pass2);
 
-		if(ErrorHandler.getErrorFlag()) {
-			System.exit(1);
-		}
+	}
 
+	public ClassGraph getClassGraph(){
+		return graph;
 	}
 
 }
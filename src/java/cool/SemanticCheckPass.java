@@ -12,32 +12,77 @@ public class SemanticCheckPass extends ASTBaseVisitor {
      */
     ClassGraph graph;
 
+    /**
+     * errors collects the errors of this analysis run
+     */
+    ErrorHandler errors;
+
     /**
      * currClass holds the current class that we are visiting.
      * Mostly used while reporting errors
      */
     AST.class_ currClass;
 
+    /**
+     * currNode is the class graph node of currClass, the type of self
+     */
+    ClassGraph.Node currNode;
+
     /**
      * objScopeTable is the scope table for variables.
-     * It stores their name and datatype
+     * It stores their name and the class node of their datatype
+     */
+    ScopeTable<ClassGraph.Node> objScopeTable;
+
+    /**
+     * Class nodes of the types the rules name, so that type checks compare
+     * nodes and conformance is an ancestor test on them
      */
-    ScopeTable<String> objScopeTable;
+    ClassGraph.Node objectType, intType, boolType, stringType;
+
+    /**
+     * signatures holds the class nodes of the return type followed by the
+     * formal types of every method, resolved once its signature is validated
+     */
+    IdentityHashMap<AST.method, ClassGraph.Node[]> signatures;
 
     /**
      * Integer used for setting fake identifiers in error recovery from redeclarations
      */
     Integer n;
 
+    /**
+     * deadline is the time budget of this analysis run, checked by the visitors
+     * of the nodes that can nest or repeat without bound
+     */
+    Deadline deadline;
+
     /**
      * Constructs the object.
      *
      * @param      graph  Inheritance class graph
      */
     public SemanticCheckPass(ClassGraph graph) {
+        this(graph, Deadline.unlimited());
+    }
+
+    /**
+     * Constructs the object.
+     *
+     * @param      graph     Inheritance class graph
+     * @param      deadline  Time budget of the run
+     */
+    public SemanticCheckPass(ClassGraph graph, Deadline deadline) {
         this.graph = graph;
-        this.objScopeTable = new ScopeTable<String>();
+        this.errors = graph.getErrorHandler();
+        this.objScopeTable = new ScopeTable<ClassGraph.Node>();
         this.n = 1;
+        this.deadline = deadline;
+        this.objectType = graph.getNode("Object");
+        this.intType = graph.getNode("Int");
+        this.boolType = graph.getNode("Bool");
+        this.stringType = graph.getNode("String");
+        this.signatures = new IdentityHashMap<AST.method, ClassGraph.Node[]>();
     }
 
     /**
@@ -59,15 +104,15 @@ public class SemanticCheckPass extends ASTBaseVisitor {
         visitClassesDFS(rootNode);      // Calls the visitors for class in correct order
 
         if (!graph.hasClass("Main")) {
-            ErrorHandler.reportError("No file", -1, "Main class absent in program.");
+            errors.reportError("No file", -1, "Main class absent in program.");
         } else {
             ClassGraph.Node m = graph.getNode("Main");
             if (m.getMethod("main") == null) {
-                ErrorHandler.reportError(m.getAstClass().filename, m.getAstClass().lineNo, 
+                errors.reportError(m.getAstClass().filename, m.getAstClass().lineNo, 
                                             "main method absent inside Main class.");
             } else {
                 if( m.getMethod("main").formals.size() != 0 ) {
-                    ErrorHandler.reportError(m.getAstClass().filename, m.getAstClass().lineNo,
+                    errors.reportError(m.getAstClass().filename, m.getAstClass().lineNo,
                                          "main method in Main class has non zero arguments.");
                 }
             }
@@ -94,7 +139,7 @@ public class SemanticCheckPass extends ASTBaseVisitor {
      */
     private String validateType(String typeid, int lineNo) {
         if (!graph.hasClass(typeid)) {
-            ErrorHandler.reportError(currClass.filename, lineNo,
+            errors.reportError(currClass.filename, lineNo,
                     "No type named " + typeid + ". Recovery by setting it to Object.");
             return "Object";
         }
@@ -103,23 +148,35 @@ public class SemanticCheckPass extends ASTBaseVisitor {
 
     /**
      * Validates the method signature and implements several recovery routines in
-     * case of error.
+     * case of error. Records the class nodes of the validated types.
      * 
      * @param mthd
      */
     private void validateMethodSignature(AST.method mthd) {
 
         mthd.typeid = validateType(mthd.typeid, mthd.lineNo);
+        ClassGraph.Node[] signature = new ClassGraph.Node[mthd.formals.size() + 1];
+        signature[0] = graph.getNode(mthd.typeid);
 
+        int i = 1;
         for (AST.formal fm : mthd.formals) {
 
             if (fm.name.equals("self")) {
-                ErrorHandler.reportError(currClass.filename, fm.lineNo,
+                errors.reportError(currClass.filename, fm.lineNo,
                         "Formal can't have name 'self'. Recovery by setting fake id.");
                 fm.name = generateNewId();
             }
             fm.typeid = validateType(fm.typeid, fm.lineNo);
+            signature[i++] = graph.getNode(fm.typeid);
         }
+        signatures.put(mthd, signature);
+    }
+
+    /**
+     * Whether a type is one of the basic types Int, String and Bool
+     */
+    private boolean isBasicValueType(ClassGraph.Node type) {
+        return type == intType || type == stringType || type == boolType;
     }
 
     /**
@@ -132,13 +189,13 @@ public class SemanticCheckPass extends ASTBaseVisitor {
      */
     private boolean isSameMethodSignature(AST.method a, AST.method b) {
         if (!a.typeid.equals(b.typeid) || (a.formals.size() != b.formals.size())) {
-            ErrorHandler.reportError(currClass.filename, b.lineNo,
+            errors.reportError(currClass.filename, b.lineNo,
                     "Method signature doesn't match. Failed to override method");
             return false;
         }
         for (int i = 0; i < a.formals.size(); ++i) {
             if (!a.formals.get(i).typeid.equals(b.formals.get(i).typeid)) {
-                ErrorHandler.reportError(currClass.filename, b.lineNo,
+                errors.reportError(currClass.filename, b.lineNo,
                         "Method signature doesn't match. Failed to override method");
                 return false;
             }
@@ -168,7 +225,7 @@ public class SemanticCheckPass extends ASTBaseVisitor {
                     }
                 } else if (node.getMethodLocal(mthd.name) != null) { 
                     // Has already been defined in this class
-                    ErrorHandler.reportError(currClass.filename, mthd.lineNo, "Method "+mthd.name
+                    errors.reportError(currClass.filename, mthd.lineNo, "Method "+mthd.name
                                                                         +" has multiple definitions." );
                 } else { 
                     // fresh method defintion
@@ -191,6 +248,7 @@ public class SemanticCheckPass extends ASTBaseVisitor {
                 
         for (ClassGraph.Node ch : node.getChildNodes()) {
             this.currClass = ch.getAstClass();
+            this.currNode = ch;
             objScopeTable.enterScope();
             if(!graph.isBasicClass(ch.name())) {
                 ch.getAstClass().accept(this);
@@ -211,16 +269,17 @@ public class SemanticCheckPass extends ASTBaseVisitor {
      */
     @Override
     public void visit(AST.class_ class__node) {
+        deadline.check();
 
-        objScopeTable.insert("self", class__node.name);
+        objScopeTable.insert("self", currNode);
 
         for(AST.feature ft : class__node.features) if(ft instanceof AST.attr){
             AST.attr at = (AST.attr)ft;
             if(at.name.equals("self")) {
-                ErrorHandler.reportError(currClass.filename, at.lineNo, "Attribute can't have name 'self'. "
+                errors.reportError(currClass.filename, at.lineNo, "Attribute can't have name 'self'. "
                                                                         + "Recovery by discarding this one.");
             } else if (objScopeTable.lookUpGlobal(at.name) != null) {
-                ErrorHandler.reportError(currClass.filename, at.lineNo, "Attribute "+at.name+" has been redefined. "
+                errors.reportError(currClass.filename, at.lineNo, "Attribute "+at.name+" has been redefined. "
                                                                         + "Recovery by discarding this one.");
             } else { // good to go with this one
                 at.accept(this);
@@ -234,20 +293,22 @@ public class SemanticCheckPass extends ASTBaseVisitor {
 
     @Override
     public void visit(AST.attr attr_node) {
+        deadline.check();
 
         if (!graph.hasClass(attr_node.typeid)) {
             attr_node.typeid = validateType(attr_node.typeid, attr_node.lineNo);
-            objScopeTable.insert(attr_node.name, attr_node.typeid);
+            objScopeTable.insert(attr_node.name, graph.getNode(attr_node.typeid));
             attr_node.value.accept(this);
         } else {
-            objScopeTable.insert(attr_node.name, attr_node.typeid);
+            ClassGraph.Node type = graph.getNode(attr_node.typeid);
+            objScopeTable.insert(attr_node.name, type);
             attr_node.value.accept(this);
 
             // If assignment has been done && doesn't conform
             if(    !(attr_node.value instanceof AST.no_expr) 
-                && !graph.isAncestor(attr_node.typeid, attr_node.value.type)) {
+                && !graph.isAncestor(type, attr_node.value.type)) {
 
-                    ErrorHandler.reportError(currClass.filename, attr_node.lineNo, 
+                    errors.reportError(currClass.filename, attr_node.lineNo, 
                     "Expression doesnt conform to type of Attribute.");
             }
         }
@@ -256,6 +317,7 @@ public class SemanticCheckPass extends ASTBaseVisitor {
 
     @Override
     public void visit(AST.method method_node) {
+        deadline.check();
 
         objScopeTable.enterScope();
 
@@ -265,10 +327,10 @@ public class SemanticCheckPass extends ASTBaseVisitor {
         method_node.body.accept(this);
 
         if (     !(method_node.body instanceof AST.no_expr) 
-             &&  !graph.isAncestor(method_node.typeid, method_node.body.type)) {
+             &&  !graph.isAncestor(signatures.get(method_node)[0], method_node.body.type)) {
 
-                ErrorHandler.reportError(currClass.filename, method_node.lineNo,
-                     "Inferred return type "+method_node.body.type
+                errors.reportError(currClass.filename, method_node.lineNo,
+                     "Inferred return type "+method_node.body.getTypeName()
                    + " doesn't conform to the declared "+method_node.typeid);
         }
 
@@ -280,16 +342,16 @@ public class SemanticCheckPass extends ASTBaseVisitor {
 
         if (formal_node.name.equals("self")) {
             // Name can't be self
-            ErrorHandler.reportError(currClass.filename, formal_node.lineNo, "Formal can't have name 'self'");
+            errors.reportError(currClass.filename, formal_node.lineNo, "Formal can't have name 'self'");
 
         } else if (objScopeTable.lookUpLocal(formal_node.name) != null) {
             // Redefinition
-            ErrorHandler.reportError(currClass.filename, formal_node.lineNo, "Formal " + formal_node.name
+            errors.reportError(currClass.filename, formal_node.lineNo, "Formal " + formal_node.name
                                                                                 + " has multiple declarations.");
         } else {
             // is correct
             formal_node.typeid = validateType(formal_node.typeid, formal_node.lineNo);
-            objScopeTable.insert(formal_node.name, formal_node.typeid);
+            objScopeTable.insert(formal_node.name, graph.getNode(formal_node.typeid));
 
         }
     }
@@ -297,15 +359,16 @@ public class SemanticCheckPass extends ASTBaseVisitor {
     
     @Override
     public void visit(AST.branch branch_node) {
+        deadline.check();
 
         objScopeTable.enterScope();
 
         branch_node.type = validateType(branch_node.type, branch_node.lineNo);
 
         if(branch_node.name.equals("self")) {
-            ErrorHandler.reportError(currClass.filename, branch_node.lineNo, "'self' bound in 'case'.");
+            errors.reportError(currClass.filename, branch_node.lineNo, "'self' bound in 'case'.");
         } else { // Do not insert self into scope, otherwise insert.
-            objScopeTable.insert(branch_node.name, branch_node.type);
+            objScopeTable.insert(branch_node.name, graph.getNode(branch_node.type));
         }
 
 
@@ -317,38 +380,38 @@ public class SemanticCheckPass extends ASTBaseVisitor {
 
     @Override
     public void visit(AST.no_expr no_expr_node) {
-        no_expr_node.type = "_no_type";
+        no_expr_node.type = null;
     }
 
     @Override
     public void visit(AST.bool_const bool_const_node) {
-        bool_const_node.type = "Bool";
+        bool_const_node.type = boolType;
     }
 
     @Override
     public void visit(AST.string_const string_const_node) {
-        string_const_node.type = "String";
+        string_const_node.type = stringType;
     }
 
     @Override
     public void visit(AST.int_const int_const_node) {
-        int_const_node.type = "Int";
+        int_const_node.type = intType;
     }
 
     @Override
     public void visit(AST.object object_node) {
 
-        String type = objScopeTable.lookUpGlobal(object_node.name);
+        ClassGraph.Node type = objScopeTable.lookUpGlobal(object_node.name);
         if(object_node.name.equals("self")) {
-            object_node.type = currClass.name;
+            object_node.type = currNode;
         }
         else if(type != null){
             object_node.type = type;
         }
         else {
             // RECOVERY : Give it the object type
-            object_node.type = "Object";
-            ErrorHandler.reportError(currClass.filename, object_node.lineNo, 
+            object_node.type = objectType;
+            errors.reportError(currClass.filename, object_node.lineNo, 
                                         "Undeclared identifier " + object_node.name);
         }
     }
@@ -357,13 +420,13 @@ public class SemanticCheckPass extends ASTBaseVisitor {
     public void visit(AST.comp comp_node) {
 
         comp_node.e1.accept(this);
-        if(!comp_node.e1.type.equals("Bool")) {
-            ErrorHandler.reportError(currClass.filename, comp_node.lineNo, "Argument of 'not' has type " 
-                + comp_node.e1.type  + " instead of Bool.");
+        if(comp_node.e1.type != boolType) {
+            errors.reportError(currClass.filename, comp_node.lineNo, "Argument of 'not' has type " 
+                + comp_node.e1.getTypeName()  + " instead of Bool.");
         }
 
         // Normal and RECOVERY : Give it Bool
-        comp_node.type = "Bool";
+        comp_node.type = boolType;
     }
 
     @Override
@@ -373,36 +436,26 @@ public class SemanticCheckPass extends ASTBaseVisitor {
         eq_node.e1.accept(this);
         eq_node.e2.accept(this);
 
-        if(!eq_node.e1.type.equals(eq_node.e2.type)) {
+        if(eq_node.e1.type != eq_node.e2.type) {
             // Different types
 
             // Check int string bool
-            boolean first = eq_node.e1.type.equals("Int") ||
-                            eq_node.e1.type.equals("String") ||
-                            eq_node.e1.type.equals("Bool")
-                            ;
-
-            boolean second = eq_node.e2.type.equals("Int") ||
-                             eq_node.e2.type.equals("String") ||
-                             eq_node.e2.type.equals("Bool")
-                             ;
-
-            if(first || second) {
-                ErrorHandler.reportError(currClass.filename, eq_node.lineNo,
+            if(isBasicValueType(eq_node.e1.type) || isBasicValueType(eq_node.e2.type)) {
+                errors.reportError(currClass.filename, eq_node.lineNo,
                     "Illegal comparison with a basic type.");
             }
         }
 
         // Normal or RECOVERY : Give it Bool
-        eq_node.type = "Bool";
+        eq_node.type = boolType;
 
     }
 
     boolean checkIntAndReport(AST.expression e1, AST.expression e2, String opr, int lineNo) {
-        boolean res = !e1.type.equals("Int") || !e2.type.equals("Int");
+        boolean res = e1.type != intType || e2.type != intType;
         if(res) {
-            ErrorHandler.reportError(currClass.filename, lineNo,
-                "non-Int arguments: " + e1.type + " " + opr +" " + e2.type);
+            errors.reportError(currClass.filename, lineNo,
+                "non-Int arguments: " + e1.getTypeName() + " " + opr +" " + e2.getTypeName());
         }
         return res;
     }
@@ -416,7 +469,7 @@ public class SemanticCheckPass extends ASTBaseVisitor {
 
         checkIntAndReport(leq_node.e1, leq_node.e2, "<=", leq_node.lineNo);
         // Error or RECOVERY : Give it Bool
-        leq_node.type = "Bool";
+        leq_node.type = boolType;
 
     }
 
@@ -429,7 +482,7 @@ public class SemanticCheckPass extends ASTBaseVisitor {
 
         checkIntAndReport(lt_node.e1, lt_node.e2, "<", lt_node.lineNo);
         // Error or RECOVERY : Give it Bool
-        lt_node.type = "Bool";
+        lt_node.type = boolType;
     }
 
     @Override
@@ -437,11 +490,11 @@ public class SemanticCheckPass extends ASTBaseVisitor {
         // System.out.println("Visiting neg_node " + neg_node.lineNo);
 
         neg_node.e1.accept(this);
-        if(!neg_node.e1.type.equals("Int")) {
-            ErrorHandler.reportError(currClass.filename, neg_node.lineNo,
-                "Argument of '~' has type " + neg_node.e1.type + " instead of Int.");
+        if(neg_node.e1.type != intType) {
+            errors.reportError(currClass.filename, neg_node.lineNo,
+                "Argument of '~' has type " + neg_node.e1.getTypeName() + " instead of Int.");
         }
-        neg_node.type = "Int";
+        neg_node.type = intType;
     }
 
     @Override
@@ -455,7 +508,7 @@ public class SemanticCheckPass extends ASTBaseVisitor {
 
         checkIntAndReport(divide_node.e1, divide_node.e2, "/", divide_node.lineNo);
         // Error or RECOVERY : Give it Int
-        divide_node.type = "Int";
+        divide_node.type = intType;
     }
 
     @Override
@@ -469,7 +522,7 @@ public class SemanticCheckPass extends ASTBaseVisitor {
 
         checkIntAndReport(mul_node.e1, mul_node.e2, "*", mul_node.lineNo);
         // Error or RECOVERY : Give it Int
-        mul_node.type = "Int";
+        mul_node.type = intType;
 
     }
 
@@ -483,7 +536,7 @@ public class SemanticCheckPass extends ASTBaseVisitor {
 
         checkIntAndReport(sub_node.e1, sub_node.e2, "-", sub_node.lineNo);
         // Error or RECOVERY : Give it Int
-        sub_node.type = "Int";
+        sub_node.type = intType;
     }
 
     @Override
@@ -497,7 +550,7 @@ public class SemanticCheckPass extends ASTBaseVisitor {
 
         checkIntAndReport(plus_node.e1, plus_node.e2, "+", plus_node.lineNo);
         // Error or RECOVERY : Give it Int
-        plus_node.type = "Int";
+        plus_node.type = intType;
 
     }
 
@@ -507,7 +560,7 @@ public class SemanticCheckPass extends ASTBaseVisitor {
 
         isvoid_node.e1.accept(this);
 
-        isvoid_node.type = "Bool";
+        isvoid_node.type = boolType;
     }
 
     @Override
@@ -515,36 +568,37 @@ public class SemanticCheckPass extends ASTBaseVisitor {
         // System.out.println("Visiting new__node " + new__node.lineNo);
 
         if(!graph.hasClass(new__node.typeid)) {
-            ErrorHandler.reportError(currClass.filename, new__node.lineNo,
+            errors.reportError(currClass.filename, new__node.lineNo,
                 "'new' used with undefined class " + new__node.typeid + ".");
-            new__node.type = "Object";
+            new__node.type = objectType;
         }
         else {
-            new__node.type = new__node.typeid;
+            new__node.type = graph.getNode(new__node.typeid);
         }
     }
 
     @Override
     public void visit(AST.assign assign_node) {
         // System.out.println("Visiting assign_node " + assign_node.lineNo);
+        deadline.check();
 
         assign_node.e1.accept(this);
     
-        String type = objScopeTable.lookUpGlobal(assign_node.name);
+        ClassGraph.Node type = objScopeTable.lookUpGlobal(assign_node.name);
 
         if(assign_node.name.equals("self")) {
-            ErrorHandler.reportError(currClass.filename, assign_node.lineNo,
+            errors.reportError(currClass.filename, assign_node.lineNo,
                 "Cannot assign to 'self'.");
         }
         else {
             if(type == null) {
-                ErrorHandler.reportError(currClass.filename, assign_node.lineNo,
+                errors.reportError(currClass.filename, assign_node.lineNo,
                     "Assignment to undeclared variable " + assign_node.name);
             }
             else if(!graph.isAncestor(type, assign_node.e1.type)) {
-                ErrorHandler.reportError(currClass.filename, assign_node.lineNo,
-                    "Type " + assign_node.e1.type + 
-                    " of assigned expression does not conform to declared type " + type + 
+                errors.reportError(currClass.filename, assign_node.lineNo,
+                    "Type " + assign_node.e1.getTypeName() + 
+                    " of assigned expression does not conform to declared type " + type.name() + 
                     " of identifier " + assign_node.name + ".");
             }
         }
@@ -556,6 +610,7 @@ public class SemanticCheckPass extends ASTBaseVisitor {
     @Override
     public void visit(AST.block block_node) {
         // System.out.println("Visiting block_node " + block_node.lineNo);
+        deadline.check();
 
         for (AST.expression exp : block_node.l1)
             exp.accept(this);
@@ -567,28 +622,30 @@ public class SemanticCheckPass extends ASTBaseVisitor {
     @Override
     public void visit(AST.loop loop_node) {
         // System.out.println("Visiting loop_node " + loop_node.lineNo);
+        deadline.check();
 
         loop_node.predicate.accept(this);
         loop_node.body.accept(this);
 
-        if(!loop_node.predicate.type.equals("Bool")) {
-            ErrorHandler.reportError(currClass.filename, loop_node.lineNo,
+        if(loop_node.predicate.type != boolType) {
+            errors.reportError(currClass.filename, loop_node.lineNo,
                 "Loop condition does not have type Bool.");
         }
 
-        loop_node.type = "Object";
+        loop_node.type = objectType;
     }
 
     @Override
     public void visit(AST.cond cond_node) {
         // System.out.println("Visiting cond_node " + cond_node.lineNo);
+        deadline.check();
 
         cond_node.predicate.accept(this);
         cond_node.ifbody.accept(this);
         cond_node.elsebody.accept(this);
 
-        if(!cond_node.predicate.type.equals("Bool")) {
-            ErrorHandler.reportError(currClass.filename, cond_node.lineNo,
+        if(cond_node.predicate.type != boolType) {
+            errors.reportError(currClass.filename, cond_node.lineNo,
                 "If condition does not have type Bool.");
         }
 
@@ -599,21 +656,22 @@ public class SemanticCheckPass extends ASTBaseVisitor {
     @Override
     public void visit(AST.let let_node) {
         // System.out.println("Visiting let_node " + let_node.lineNo);
+        deadline.check();
 
 
         objScopeTable.enterScope();
 
         if(let_node.name.equals("self")) {
-            ErrorHandler.reportError(currClass.filename, let_node.lineNo,
+            errors.reportError(currClass.filename, let_node.lineNo,
                 "'self' cannot be bound in a let expression.");
         }
         else {
-            String type = let_node.typeid;
+            ClassGraph.Node type = graph.getNode(let_node.typeid);
             // Check if class is defined
-            if(!graph.hasClass(let_node.typeid)) {
-                ErrorHandler.reportError(currClass.filename, let_node.lineNo,
+            if(type == null) {
+                errors.reportError(currClass.filename, let_node.lineNo,
                     "'let' used with undefined class " + let_node.typeid);
-                type = "Object";
+                type = objectType;
             }
 
             objScopeTable.insert(let_node.name, type);
@@ -625,9 +683,9 @@ public class SemanticCheckPass extends ASTBaseVisitor {
 
                 if(!graph.isAncestor(type, let_node.value.type)) {
                     // Not Conforming
-                    ErrorHandler.reportError(currClass.filename, let_node.lineNo,
-                        "Type " + let_node.value.type + 
-                        " of assigned expression does not conform to declared type " + type + 
+                    errors.reportError(currClass.filename, let_node.lineNo,
+                        "Type " + let_node.value.getTypeName() + 
+                        " of assigned expression does not conform to declared type " + type.name() + 
                         " of identifier " + let_node.name + ".");                
                 }
             }
@@ -643,67 +701,66 @@ public class SemanticCheckPass extends ASTBaseVisitor {
     @Override
     public void visit(AST.dispatch dispatch_node) {
         // System.out.println("Visiting dispatch_node " + dispatch_node.lineNo);
+        deadline.check();
 
         dispatch_node.caller.accept(this);
         for (AST.expression exp : dispatch_node.actuals)
             exp.accept(this);
 
-        String classname = dispatch_node.caller.type;
-        if(dispatch_node.caller.type.equals("self")) {
-            classname = currClass.name;
-        }
+        ClassGraph.Node caller = dispatch_node.caller.type;
 
         // Gives the method with proper signature
-        AST.method method = graph.getNode(classname).getMethod(dispatch_node.name);
+        AST.method method = caller.getMethod(dispatch_node.name);
 
         // System.out.println(currClass.name);
 
         if(method == null) {
-            ErrorHandler.reportError(currClass.filename, dispatch_node.lineNo,
-                "Method " + dispatch_node.name + "(...) not a feature of class " + classname);
-            dispatch_node.type = "Object";
+            errors.reportError(currClass.filename, dispatch_node.lineNo,
+                "Method " + dispatch_node.name + "(...) not a feature of class " + caller.name());
+            dispatch_node.type = objectType;
         }
         else {
 
             // Check if the conforming calls
             List<AST.expression> actuals = dispatch_node.actuals;
             List<AST.formal> formals = method.formals;
+            ClassGraph.Node[] signature = signatures.get(method);
 
             if(actuals.size() != formals.size()) {
-                ErrorHandler.reportError(currClass.filename, dispatch_node.lineNo,
+                errors.reportError(currClass.filename, dispatch_node.lineNo,
                             "Method " + method.name + " called with wrong number of arguments." );
             }
             else {
                 for(int i = 0; i < actuals.size(); i++) {
-                    if(!graph.isAncestor(formals.get(i).typeid, actuals.get(i).type)) {
-                        ErrorHandler.reportError(currClass.filename, dispatch_node.lineNo,
+                    if(!graph.isAncestor(signature[i + 1], actuals.get(i).type)) {
+                        errors.reportError(currClass.filename, dispatch_node.lineNo,
                             "Type mismatch for arg " + formals.get(i).name + 
                             ". Formal : " + formals.get(i).typeid +
-                            ", Actual : " + actuals.get(i).type );
+                            ", Actual : " + actuals.get(i).getTypeName() );
                     }
                 }
             }
-            dispatch_node.type = method.typeid;    
+            dispatch_node.type = signature[0];    
         }
     }
 
     @Override
     public void visit(AST.typcase typcase_node) {
         // System.out.println("Visiting typcase_node " + typcase_node.lineNo);
+        deadline.check();
 
         typcase_node.predicate.accept(this);
         for (AST.branch br : typcase_node.branches)
             br.accept(this);
 
         // Check no two types same
-        List<String> type_list = new ArrayList<String>();
+        Set<String> type_set = new HashSet<String>();
         for(AST.branch branch : typcase_node.branches) {
-            if(type_list.contains(branch.type)) {
+            if(!type_set.add(branch.type)) {
                 // Error
-                ErrorHandler.reportError(currClass.filename, branch.lineNo,
+                errors.reportError(currClass.filename, branch.lineNo,
                     "Duplicate branch " + branch.type + " in case statement.");
             }
-            type_list.add(branch.type);
         }
 
         typcase_node.type = typcase_node.branches.get(0).value.type;
@@ -717,56 +774,57 @@ public class SemanticCheckPass extends ASTBaseVisitor {
     @Override
     public void visit(AST.static_dispatch static_dispatch_node) {
         // System.out.println("Visiting static_dispatch_node " + static_dispatch_node.lineNo);
+        deadline.check();
 
         static_dispatch_node.caller.accept(this);
         for (AST.expression exp : static_dispatch_node.actuals)
             exp.accept(this);
 
-        String classname = static_dispatch_node.caller.type;
-
         if(!graph.hasClass(static_dispatch_node.typeid)) {
-            ErrorHandler.reportError(currClass.filename, static_dispatch_node.lineNo,
+            errors.reportError(currClass.filename, static_dispatch_node.lineNo,
                "Static dispatch to undefined class " + static_dispatch_node.typeid + ".");
-            static_dispatch_node.type = "Object";
+            static_dispatch_node.type = objectType;
             return;
         }
 
-        else if(!graph.isAncestor(static_dispatch_node.typeid, static_dispatch_node.caller.type)) {
-            ErrorHandler.reportError(currClass.filename, static_dispatch_node.lineNo,
+        ClassGraph.Node staticType = graph.getNode(static_dispatch_node.typeid);
+        if(!graph.isAncestor(staticType, static_dispatch_node.caller.type)) {
+            errors.reportError(currClass.filename, static_dispatch_node.lineNo,
                "Class " + static_dispatch_node.typeid + " is not an ancestor of the caller type " 
-               + static_dispatch_node.caller.type);
-            static_dispatch_node.type = "Object";
+               + static_dispatch_node.caller.getTypeName());
+            static_dispatch_node.type = objectType;
             return;
         }
 
-        AST.method method = graph.getNode(static_dispatch_node.typeid).getMethod(static_dispatch_node.name);
+        AST.method method = staticType.getMethod(static_dispatch_node.name);
 
         if(method == null) {
-            ErrorHandler.reportError(currClass.filename, static_dispatch_node.lineNo,
+            errors.reportError(currClass.filename, static_dispatch_node.lineNo,
                 "Method " + static_dispatch_node.name + "(...) not a feature of class " + static_dispatch_node.typeid);
-            static_dispatch_node.type = "Object";
+            static_dispatch_node.type = objectType;
             return;
         }
         // Check if the conforming calls
         List<AST.expression> actuals = static_dispatch_node.actuals;
         List<AST.formal> formals = method.formals;
+        ClassGraph.Node[] signature = signatures.get(method);
 
         if(actuals.size() != formals.size()) {
-            ErrorHandler.reportError(currClass.filename, static_dispatch_node.lineNo,
+            errors.reportError(currClass.filename, static_dispatch_node.lineNo,
                 "Method " + static_dispatch_node.name + " invoked with wrong number of arguments.");
         }
 
         for(int i = 0; i < actuals.size(); i++) {
             if(i < formals.size()) {
-                if(!graph.isAncestor(formals.get(i).typeid, actuals.get(i).type)) {
-                    ErrorHandler.reportError(currClass.filename, static_dispatch_node.lineNo,
+                if(!graph.isAncestor(signature[i + 1], actuals.get(i).type)) {
+                    errors.reportError(currClass.filename, static_dispatch_node.lineNo,
                         "Type mismatch for arg " + formals.get(i).name + 
                         ". Formal : " + formals.get(i).typeid +
-                        ", Actual : " + actuals.get(i).type);
+                        ", Actual : " + actuals.get(i).getTypeName());
                 }
             }
         }
-        static_dispatch_node.type = method.typeid;
+        static_dispatch_node.type = signature[0];
     }
 
 }
\ No newline at end of file
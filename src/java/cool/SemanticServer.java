@@ -0,0 +1,227 @@
+package cool;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Long lived analysis server listening on a Unix domain socket.
+ *
+ * Keeping one JVM alive keeps the lexer and parser DFA caches and the
+ * JIT compiled passes warm, so a request costs about as much as the
+ * analysis itself instead of a JVM startup.
+ *
+ * Protocol: the client sends the arguments it would pass to SemanticTest,
+ * one per line, followed by an empty line. The server answers with the
+ * produced output, every line prefixed by "1 " (stdout) or "2 " (stderr),
+ * and a final "exit N" line carrying the exit status.
+ */
+public class SemanticServer {
+
+    private final Path socketPath;
+    private final long timeoutMillis;
+    private final ExecutorService workers;
+
+    public SemanticServer(Path socketPath) {
+        this(socketPath, 0);
+    }
+
+    /**
+     * @param socketPath
+     * @param timeoutMillis Default time budget of the analyses of a request, 0 for
+     *                      unlimited. A request can override it with --timeout.
+     */
+    public SemanticServer(Path socketPath, long timeoutMillis) {
+        this.socketPath = socketPath;
+        this.timeoutMillis = timeoutMillis;
+        this.workers = newConnectionExecutor();
+    }
+
+    /**
+     * One virtual thread per connection when the runtime has them (Java 21+),
+     * a cached thread pool otherwise.
+     */
+    private static ExecutorService newConnectionExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    /**
+     * Analyzes the given files once so that the first client request already hits warm caches.
+     * @param files
+     */
+    public void warmUp(List<String> files) {
+        if (files.isEmpty()) return;
+        String[] args = files.toArray(new String[0]);
+        try {
+            // Without the request time budget, a cold JVM is slower than the ones it is meant for
+            SemanticTest.run(args, new PrintStream(new ByteArrayOutputStream()), new PrintStream(new ByteArrayOutputStream()));
+        } catch (Exception e) {
+            System.err.println("Warm up failed: " + e);
+        }
+    }
+
+    /**
+     * Binds the socket and serves requests until the process is killed.
+     * @throws IOException
+     */
+    public void serve() throws IOException {
+        Files.deleteIfExists(socketPath); // stale socket of a previous run
+        ServerSocketChannel server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        server.bind(UnixDomainSocketAddress.of(socketPath));
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                Files.deleteIfExists(socketPath);
+            } catch (IOException e) {
+                // nothing left to do while shutting down
+            }
+        }));
+        System.err.println("Listening on " + socketPath);
+
+        while (true) {
+            SocketChannel client = server.accept();
+            workers.execute(() -> handle(client));
+        }
+    }
+
+    /**
+     * Reads one request from the connection, runs it and sends back the output.
+     */
+    private void handle(SocketChannel client) {
+        try (SocketChannel ch = client) {
+            BufferedReader in = new BufferedReader(
+                    new InputStreamReader(Channels.newInputStream(ch), StandardCharsets.UTF_8));
+            List<String> args = new ArrayList<>();
+            String line;
+            while ((line = in.readLine()) != null && !line.isEmpty()) {
+                args.add(line);
+            }
+
+            StringBuilder output = new StringBuilder();
+            PrintStream out = new PrintStream(new LineChannel(output, "1 "), true);
+            PrintStream err = new PrintStream(new LineChannel(output, "2 "), true);
+            int status = execute(args.toArray(new String[0]), out, err);
+            out.close();
+            err.close();
+
+            Writer reply = new OutputStreamWriter(Channels.newOutputStream(ch), StandardCharsets.UTF_8);
+            reply.write(output.toString());
+            reply.write("exit " + status + "\n");
+            reply.flush();
+        } catch (IOException e) {
+            System.err.println("Connection failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Collects the lines written to it into a buffer shared with the other channel,
+     * tagging each line with the channel prefix. Keeps stdout and stderr in the order
+     * they were produced.
+     */
+    private static class LineChannel extends OutputStream {
+
+        private final StringBuilder output;
+        private final String prefix;
+        private final ByteArrayOutputStream line = new ByteArrayOutputStream();
+
+        LineChannel(StringBuilder output, String prefix) {
+            this.output = output;
+            this.prefix = prefix;
+        }
+
+        @Override
+        public void write(int b) {
+            if (b == '\n') {
+                endLine();
+            } else {
+                line.write(b);
+            }
+        }
+
+        @Override
+        public void close() {
+            if (line.size() > 0) endLine();
+        }
+
+        private void endLine() {
+            synchronized (output) {
+                output.append(prefix).append(new String(line.toByteArray(), StandardCharsets.UTF_8)).append('\n');
+            }
+            line.reset();
+        }
+    }
+
+    /**
+     * Runs SemanticTest on the arguments with the given stdout and stderr.
+     * Every run has its own analyzer state, so connections are served concurrently.
+     * --watch, which never returns, is refused, and an error thrown by an analysis
+     * is answered like an exception.
+     * @return exit status the command line run would have had
+     */
+    private int execute(String[] args, PrintStream out, PrintStream err) {
+        if (args.length == 0) {
+            err.println("No files given");
+            return 1;
+        }
+        if (Arrays.asList(args).contains("--watch")) {
+            err.println("--watch is not served by the analysis server, stop it to watch a directory");
+            return 1;
+        }
+        if (timeoutMillis > 0) {
+            // Options are read left to right, so a --timeout of the request wins
+            String[] withTimeout = new String[args.length + 2];
+            withTimeout[0] = "--timeout";
+            withTimeout[1] = Long.toString(timeoutMillis);
+            System.arraycopy(args, 0, withTimeout, 2, args.length);
+            args = withTimeout;
+        }
+        try {
+            return SemanticTest.run(args, out, err);
+        } catch (Throwable e) {
+            err.println("Internal error: " + e);
+            return 1;
+        }
+    }
+
+    /**
+     * Entry point: SemanticServer <socket> [--timeout MS] [warm up files...]
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.err.println("Usage: SemanticServer <socket> [--timeout MS] [warm up files...]");
+            System.exit(1);
+        }
+        int first = 1;
+        long timeout = 0;
+        if (args.length > 2 && args[1].equals("--timeout")) {
+            timeout = Long.parseLong(args[2]);
+            first = 3;
+        }
+        DfaSnapshot.loadConfigured();
+        SemanticServer server = new SemanticServer(Paths.get(args[0]), timeout);
+        server.warmUp(SemanticTest.collectFiles(Arrays.copyOfRange(args, first, args.length)));
+        server.serve();
+    }
+}
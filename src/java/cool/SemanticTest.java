@@ -1,18 +1,26 @@
 package cool;
 
-import java.io.FileInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import cool.AnalysisResult.Outcome;
 
-import org.antlr.v4.runtime.ANTLRInputStream;
-import org.antlr.v4.runtime.CommonTokenStream;
 
 import org.antlr.v4.runtime.CommonToken;
-import org.antlr.v4.runtime.Token;
 import org.antlr.v4.runtime.BaseErrorListener;
 import org.antlr.v4.runtime.Recognizer;
 import org.antlr.v4.runtime.RecognitionException;
 import org.antlr.v4.runtime.tree.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 
 public class SemanticTest {
@@ -22,7 +30,8 @@ public class SemanticTest {
 
 	static int VALUED_INDEX_LIMIT = 6;
 	static int NAMED_TOKEN_INDEX = 23;
-	static int parser_error_flag = 0;
+
+	static final CoolAnalyzer analyzer = new CoolAnalyzer();
 	
 	static String escapeSpecialCharacters(String text) {
 		return
@@ -45,50 +54,270 @@ public class SemanticTest {
 				;
 	}
 
-	static void printAST(String filename) throws Exception{
-		ANTLRInputStream inStream=null;
-		try{
-			inStream = new ANTLRInputStream(new FileInputStream(filename));
-		}catch(Exception e){
-			System.err.println("Could not read file "+filename);
-			return;
-		}
-		
-		CoolLexer lexer = new CoolLexer(inStream);
-		CommonTokenStream tokens = new CommonTokenStream(lexer);
-		tokens.fill();		
-		int lexer_flag = 0;
-		for(Token t : tokens.getTokens()){
-			if ( t.getType() == 1 ){
-				lexer_flag = 1;
-				System.err.println("Lexical error at "+t.getLine()+": "+escapeSpecialCharacters(t.getText()));	
+	static Outcome printAST(String filename) throws Exception{
+		return printAST(filename, System.err);
+	}
+
+	/**
+	 * Analyzes one file, writing every diagnostic to err.
+	 * All state lives in this call, so files can be analyzed concurrently.
+	 */
+	static Outcome printAST(String filename, PrintStream err) throws Exception{
+		return printAST(analyzer, filename, err);
+	}
+
+	static Outcome printAST(CoolAnalyzer analyzer, String filename, PrintStream err) throws Exception{
+		return printResult(analyzer.analyze(Paths.get(filename)), err);
+	}
+
+	/**
+	 * Analyzes the files as one program whose classes are spread over all of them.
+	 */
+	static Outcome printProgram(CoolAnalyzer analyzer, List<String> filenames, PrintStream err) throws Exception{
+		List<Path> files = new ArrayList<Path>();
+		for (String f : filenames)
+			files.add(Paths.get(f));
+		return printResult(analyzer.analyze(files), err);
+	}
+
+	static Outcome printResult(AnalysisResult result, PrintStream err) {
+		for (Diagnostic d : result.getDiagnostics())
+			err.println(d);
+		if (result.getOutcome() == Outcome.SYNTAX_ERROR)
+			err.println("Compilation halted due to lex and parse errors");
+		// if (!result.hasErrors()) System.out.println(result.getProgram().getString(""));
+		return result.getOutcome();
+	}
+
+	/**
+	 * Expands the command line into the list of files to analyze.
+	 * A directory contributes every .cl file below it, and an argument
+	 * of the form @list names a file holding one path per line.
+	 */
+	static List<String> collectFiles(String[] args) throws IOException {
+		return collectFiles(args, false);
+	}
+
+	/**
+	 * @param archives	Whether directories also contribute the archives below them
+	 */
+	static List<String> collectFiles(String[] args, boolean archives) throws IOException {
+		List<String> files = new ArrayList<String>();
+		for (String arg : args) {
+			if (arg.startsWith("@")) {
+				for (String line : Files.readAllLines(Paths.get(arg.substring(1)))) {
+					line = line.trim();
+					if (!line.isEmpty() && !line.startsWith("#"))
+						collectFiles(new File(line), files, archives);
+				}
+			} else {
+				collectFiles(new File(arg), files, archives);
 			}
 		}
-		if (lexer_flag == 1)
-			return;
-		
-		parser_error_flag = 0;
-		CoolParser parser = new CoolParser(tokens);
-		parser.removeErrorListeners();
-		parser.addErrorListener(new ParserError(Paths.get(filename).getFileName().toString()));
-		parser.setFilename(Paths.get(filename).getFileName().toString());
-
-		CoolParser.ProgramContext prog = null;
-		try{
-			prog = parser.program();
-		}catch(Exception e){
-		//	e.printStackTrace();
-		}
-		if(parser_error_flag == 1){
-			System.err.println("Compilation halted due to lex and parse errors");
+		return files;
+	}
+
+	private static void collectFiles(File f, List<String> files, boolean archives) {
+		if (!f.isDirectory()) {
+			files.add(f.getPath());
 			return;
 		}
-		Semantic semanticAnalyzer=new Semantic(prog.value);
-		if (semanticAnalyzer.getErrorFlag()){
-			System.err.println("Compilation halter due to semantic errors.");
+		File[] children = f.listFiles();
+		if (children == null)
 			return;
+		Arrays.sort(children);
+		for (File ch : children) {
+			if (ch.isDirectory() || ch.getName().endsWith(".cl") || (archives && SourceArchive.isArchive(ch.getName())))
+				collectFiles(ch, files, archives);
+		}
+	}
+
+	/**
+	 * Diagnostics and outcome of one file analyzed by the batch executor
+	 */
+	static class BatchResult {
+		final String file;
+		final Outcome outcome;
+		final String diagnostics;
+
+		BatchResult(String file, Outcome outcome, String diagnostics) {
+			this.file = file;
+			this.outcome = outcome;
+			this.diagnostics = diagnostics;
+		}
+	}
+
+	/**
+	 * Analysis printing its diagnostics to err
+	 */
+	interface Analysis {
+		Outcome run(PrintStream err) throws Exception;
+	}
+
+	/**
+	 * Analyzes one file into its own buffer so concurrent runs don't interleave.
+	 */
+	static BatchResult analyzeBuffered(CoolAnalyzer analyzer, String file) {
+		return analyzeBuffered(file, err -> printAST(analyzer, file, err));
+	}
+
+	static BatchResult analyzeBuffered(String file, Analysis analysis) {
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		PrintStream err = new PrintStream(buffer, true);
+		Outcome outcome;
+		try {
+			outcome = analysis.run(err);
+		} catch (Exception | StackOverflowError e) {
+			err.println("Internal error while analyzing "+file+": "+e);
+			outcome = Outcome.SEMANTIC_ERROR;
 		}
-		// System.out.println(prog.value.getString(""));
+		err.flush();
+		return new BatchResult(file, outcome, buffer.toString());
+	}
+
+	/**
+	 * Submits the analysis of every .cl entry of the archive, named archive!/entry,
+	 * as the entries are read. An archive that cannot be read yields a READ_ERROR
+	 * result after the entries read so far.
+	 */
+	private static void submitArchive(CoolAnalyzer analyzer, String archive, ForkJoinPool pool,
+									  List<ForkJoinTask<BatchResult>> results) {
+		Path path = Paths.get(archive);
+		try {
+			SourceArchive.read(path, (entry, content) -> {
+				String name = SourceArchive.entryName(path, entry);
+				String source = new String(content, Charset.defaultCharset());
+				results.add(pool.submit(() -> analyzeBuffered(name, err -> printResult(analyzer.analyze(source, name), err))));
+			});
+		} catch (IOException e) {
+			String message = "Could not read archive " + archive + ": " + e.getMessage() + "\n";
+			results.add(pool.submit(() -> new BatchResult(archive, Outcome.READ_ERROR, message)));
+		}
+	}
+
+	/**
+	 * Analyzes the files on a fork-join pool of the given parallelism. Diagnostics of each
+	 * file are buffered and printed in input order, followed by its outcome line.
+	 * Each .cl entry of a zip or tar archive is analyzed as a file of its own.
+	 * Returns the number of files that failed.
+	 */
+	static int runBatch(CoolAnalyzer analyzer, List<String> files, int parallelism, PrintStream out, PrintStream err) {
+		ForkJoinPool pool = new ForkJoinPool(parallelism);
+		List<ForkJoinTask<BatchResult>> results = new ArrayList<ForkJoinTask<BatchResult>>();
+		for (final String file : files) {
+			if (SourceArchive.isArchive(file))
+				submitArchive(analyzer, file, pool, results);
+			else
+				results.add(pool.submit(() -> analyzeBuffered(analyzer, file)));
+		}
+
+		int failed = 0;
+		try {
+			for (ForkJoinTask<BatchResult> task : results) {
+				BatchResult result = task.join();
+				if (result.outcome != Outcome.PASSED)
+					failed++;
+				err.print(result.diagnostics);
+				err.flush();
+				out.println(result.file + ": " + result.outcome.description);
+			}
+		} finally {
+			pool.shutdown();
+		}
+		out.println(results.size() + " files, " + (results.size() - failed) + " passed, " + failed + " failed");
+		return failed;
+	}
+
+	/**
+	 * Runs the analyzer on the command line arguments and returns the exit status.
+	 * Shared by main and SemanticServer.
+	 *   -j N        analyze a batch on N threads (default: all cores); zip and tar
+	 *               archives, and those below a directory, add their .cl entries
+	 *   --program   all the inputs are the files of a single program
+	 *   --watch     analyze the .cl files below the given directory as one program
+	 *               and re-analyze it on every change
+	 *   --timeout MS  time budget of the analysis of every file (or program)
+	 *   --lexer L   antlr (the generated lexer), fast (FastCoolLexer) or parallel
+	 *               (ParallelLexer on large files)
+	 *   --parser P  sll_ll (CoolParser, SLL prediction first), ll, fast
+	 *               (FastCoolParser) or parallel (classes on several cores)
+	 *   --profile-parser  parse the inputs with ANTLR's profiling simulator and
+	 *               print the cost of each grammar decision instead of analyzing
+	 */
+	static int run(String args[], PrintStream out, PrintStream err) throws Exception{
+		int parallelism = Runtime.getRuntime().availableProcessors();
+		boolean singleProgram = false;
+		boolean watch = false;
+		boolean profileParser = false;
+		long timeout = 0;
+		CoolAnalyzer.LexerKind lexer = null;
+		CoolAnalyzer.ParseMode parseMode = null;
+		List<String> inputs = new ArrayList<String>();
+		for (int i = 0; i < args.length; i++) {
+			if (args[i].equals("-j") && i + 1 < args.length) {
+				parallelism = Math.max(1, Integer.parseInt(args[++i]));
+			} else if (args[i].equals("--program")) {
+				singleProgram = true;
+			} else if (args[i].equals("--watch")) {
+				watch = true;
+			} else if (args[i].equals("--profile-parser")) {
+				profileParser = true;
+			} else if (args[i].equals("--timeout") && i + 1 < args.length) {
+				timeout = Math.max(0, Long.parseLong(args[++i]));
+			} else if (args[i].equals("--lexer") && i + 1 < args.length) {
+				try {
+					lexer = CoolAnalyzer.LexerKind.valueOf(args[++i].toUpperCase());
+				} catch (IllegalArgumentException e) {
+					err.println("Unknown lexer " + args[i]);
+					return 1;
+				}
+			} else if (args[i].equals("--parser") && i + 1 < args.length) {
+				try {
+					parseMode = CoolAnalyzer.ParseMode.valueOf(args[++i].toUpperCase());
+				} catch (IllegalArgumentException e) {
+					err.println("Unknown parser " + args[i]);
+					return 1;
+				}
+			} else {
+				inputs.add(args[i]);
+			}
+		}
+		if (inputs.isEmpty()) {
+			err.println("No files given");
+			return 1;
+		}
+		CoolAnalyzer analyzer = SemanticTest.analyzer;
+		if (lexer != null || parseMode != null)
+			analyzer = new CoolAnalyzer(timeout, lexer != null ? lexer : CoolAnalyzer.LexerKind.configured(),
+										parseMode != null ? parseMode : CoolAnalyzer.ParseMode.configured());
+		else if (timeout > 0)
+			analyzer = new CoolAnalyzer(timeout);
+		if (profileParser) {
+			return ParserProfile.run(analyzer, collectFiles(inputs.toArray(new String[0])), out, err);
+		}
+		if (watch) {
+			if (inputs.size() != 1 || !new File(inputs.get(0)).isDirectory()) {
+				err.println("--watch takes one directory");
+				return 1;
+			}
+			new SemanticWatcher(analyzer, Paths.get(inputs.get(0)), out, err).watch();
+			return 0;
+		}
+		if (singleProgram) {
+			return exitStatus(printProgram(analyzer, collectFiles(inputs.toArray(new String[0])), err));
+		}
+		if (inputs.size() == 1 && !inputs.get(0).startsWith("@") && !new File(inputs.get(0)).isDirectory()
+			&& !SourceArchive.isArchive(inputs.get(0))) {
+			return exitStatus(printAST(analyzer, inputs.get(0), err));
+		}
+		return runBatch(analyzer, collectFiles(inputs.toArray(new String[0]), true), parallelism, out, err) > 0 ? 1 : 0;
+	}
+
+	/**
+	 * Lexical and syntax errors keep the original zero exit status
+	 */
+	static int exitStatus(Outcome outcome) {
+		return outcome == Outcome.SEMANTIC_ERROR || outcome == Outcome.TIMED_OUT ? 1 : 0;
 	}
 
 	public static void main(String args[]) throws Exception{
@@ -97,38 +326,44 @@ public class SemanticTest {
 			System.err.println("No files given");
 			System.exit(1);
 		}
-		printAST(args[0]);
+		DfaSnapshot.loadConfigured();
+		int status = run(args, System.out, System.err);
+		if (status != 0)
+			System.exit(status);
 	}
 
 	public static class ParserError extends BaseErrorListener {
 		
 		String filename;
+		ErrorHandler errors;
+		int parser_error_flag = 0;
 		public ParserError(String fn) {
+			this(fn, new ErrorHandler());
+		}
+		public ParserError(String fn, ErrorHandler errors) {
 			super();
 			filename=fn;
+			this.errors=errors;
 		}
 		@Override
 		public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line, int charPositionIntLine, String msg, RecognitionException e){
 			parser_error_flag=1;
-			String sourceName = recognizer.getInputStream().getSourceName();
 			String errorMessage="";
-			if(filename!=null){
-				if(offendingSymbol instanceof CommonToken){
-					errorMessage += "\""+filename+"\", line "+line+": syntax error at or near ";
-					int typeid = ((CommonToken)offendingSymbol).getType();
-					if (typeid == -1){
-						errorMessage += "EOF";
-					}
-					else if (typeid <= VALUED_INDEX_LIMIT) {
-						errorMessage += TOKENS[typeid-1] + " = " + ((CommonToken)offendingSymbol).getText();
-					}else if(typeid >= NAMED_TOKEN_INDEX){
-						errorMessage += TOKENS[typeid-1];
-					}else{
-						errorMessage += "\'"+escapeSpecialCharacters(((CommonToken)offendingSymbol).getText())+"\'";
-					}
+			if(offendingSymbol instanceof CommonToken){
+				errorMessage += "syntax error at or near ";
+				int typeid = ((CommonToken)offendingSymbol).getType();
+				if (typeid == -1){
+					errorMessage += "EOF";
+				}
+				else if (typeid <= VALUED_INDEX_LIMIT) {
+					errorMessage += TOKENS[typeid-1] + " = " + ((CommonToken)offendingSymbol).getText();
+				}else if(typeid >= NAMED_TOKEN_INDEX){
+					errorMessage += TOKENS[typeid-1];
+				}else{
+					errorMessage += "\'"+escapeSpecialCharacters(((CommonToken)offendingSymbol).getText())+"\'";
 				}
 			}
-			System.err.println(errorMessage);
+			errors.report(new Diagnostic(Diagnostic.Kind.SYNTAX, filename, line, errorMessage));
 			throw new RuntimeException("One error found!");
 		}
 	}		
@@ -0,0 +1,382 @@
+package cool;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Watch mode: analyzes all the .cl files below a directory as one program and
+ * re-analyzes it whenever a file changes.
+ *
+ * The parsed classes of every file are kept in memory. After a change only the
+ * changed files are lexed and parsed again before the semantic passes are re-run
+ * on the merged program. A changed file is edited in its IncrementalParser, so
+ * only the classes that changed are parsed again and the others keep their AST.
+ * Error recovery in SemanticCheckPass rewrites parts of the AST of the classes it
+ * reports errors on, so the files that got semantic errors in the previous run
+ * are parsed again as well, from scratch. The static types of the kept classes
+ * are nodes of the previous run's ClassGraph, which the passes do not overwrite
+ * when they stop early, so they are cleared before every run.
+ */
+public class SemanticWatcher {
+
+    /**
+     * Time to wait for more events once one arrived, so that a save touching
+     * several files triggers a single analysis
+     */
+    private static final long SETTLE_MILLIS = 10;
+
+    private final CoolAnalyzer analyzer;
+    private final Path root;
+    private final PrintStream out;
+    private final PrintStream err;
+
+    private final Map<Path, CoolAnalyzer.ParsedUnit> units = new TreeMap<>(); // Parsed fragments by file
+    private final Set<Path> stale = new HashSet<>();                          // Fragments touched by error recovery
+    private final Map<Path, IncrementalParser> parsers = new ConcurrentHashMap<>(); // Tokens and classes by file
+    private AnalysisResult lastResult;                                       // Holds the last AST and ClassGraph
+    private int lastParsed;                                                  // Files parsed by the last update
+
+    public SemanticWatcher(CoolAnalyzer analyzer, Path root, PrintStream out, PrintStream err) {
+        this.analyzer = analyzer;
+        this.root = root;
+        this.out = out;
+        this.err = err;
+    }
+
+    public AnalysisResult getLastResult() {
+        return lastResult;
+    }
+
+    /**
+     * Parses every file below the root and analyzes the program
+     * @return
+     * @throws IOException
+     */
+    public AnalysisResult analyzeAll() throws IOException {
+        units.clear();
+        stale.clear();
+        parsers.clear();
+        try (Stream<Path> files = Files.walk(root)) {
+            return update(files.filter(SemanticWatcher::isSource).collect(Collectors.toList()));
+        }
+    }
+
+    /**
+     * Re-parses the given files (dropping the ones that no longer exist) and
+     * re-runs the semantic passes on the merged program.
+     * @param changed Files that were created, modified or deleted
+     * @return
+     */
+    public AnalysisResult update(Collection<Path> changed) {
+        Set<Path> parseSet = new HashSet<>();
+        for (Path p : stale) {
+            if (Files.isRegularFile(p)) parseSet.add(p);
+        }
+        for (Path p : changed) {
+            if (Files.isRegularFile(p)) {
+                parseSet.add(p);
+            } else {
+                units.remove(p);
+                parsers.remove(p);
+                parseSet.remove(p);
+            }
+        }
+        List<Path> toParse = new ArrayList<>(parseSet);
+        lastParsed = toParse.size();
+        Deadline deadline = analyzer.newDeadline();
+        List<CoolAnalyzer.ParsedUnit> parsed = toParse.parallelStream()
+                                                      .map(p -> parse(p, deadline))
+                                                      .collect(Collectors.toList());
+        int i = 0;
+        for (Path p : toParse) {
+            units.put(p, parsed.get(i++));
+        }
+
+        if (units.isEmpty()) {
+            lastResult = null;
+            return null;
+        }
+        TypeReset reset = new TypeReset();
+        for (CoolAnalyzer.ParsedUnit u : units.values()) {
+            if (u.classes == null) continue;
+            for (AST.class_ c : u.classes)
+                c.accept(reset);
+        }
+        lastResult = analyzer.analyzeUnits(new ArrayList<>(units.values()), deadline);
+
+        // Remember which fragments the semantic passes may have rewritten, and retry timed out ones
+        stale.clear();
+        Set<String> erroneous = new HashSet<>();
+        for (Diagnostic d : lastResult.getDiagnostics()) {
+            if (d.getKind() == Diagnostic.Kind.SEMANTIC) erroneous.add(d.getFilename());
+        }
+        for (Map.Entry<Path, CoolAnalyzer.ParsedUnit> e : units.entrySet()) {
+            if (erroneous.contains(e.getValue().filename) || e.getValue().outcome == AnalysisResult.Outcome.TIMED_OUT)
+                stale.add(e.getKey());
+        }
+        return lastResult;
+    }
+
+    /**
+     * Parses a file that changed, in its IncrementalParser unless its classes were
+     * touched by error recovery. The diagnostics of a file that does not parse come
+     * from a full parse by the analyzer.
+     */
+    private CoolAnalyzer.ParsedUnit parse(Path p, Deadline deadline) {
+        String filename = CoolAnalyzer.nameOf(p);
+        try {
+            String source = new String(Files.readAllBytes(p));
+            IncrementalParser parser = stale.contains(p) ? null : parsers.get(p);
+            if (parser == null) {
+                parsers.remove(p);
+                parser = new IncrementalParser(analyzer, filename, source, deadline);
+                parsers.put(p, parser);
+            } else {
+                parser.edit(source, deadline);
+            }
+            AST.program program = parser.getProgram();
+            if (program != null)
+                return new CoolAnalyzer.ParsedUnit(filename, AnalysisResult.Outcome.PASSED, program.classes,
+                                                   Collections.<Diagnostic>emptyList());
+        } catch (IOException | Deadline.Expired e) {
+            // Reported by the full parse
+        }
+        return analyzer.parse(p, deadline);
+    }
+
+    /**
+     * Analyzes the tree, then waits for changes and re-analyzes until interrupted.
+     * @throws IOException
+     * @throws InterruptedException
+     */
+    public void watch() throws IOException, InterruptedException {
+        try (WatchService watcher = FileSystems.getDefault().newWatchService()) {
+            Map<WatchKey, Path> dirs = new HashMap<>();
+            registerAll(root, watcher, dirs);
+
+            long start = System.nanoTime();
+            report(analyzeAll(), start);
+
+            while (true) {
+                Set<Path> changed = new HashSet<>();
+                boolean rescan = false;
+                WatchKey key = watcher.take();
+                start = System.nanoTime();
+                while (key != null) {
+                    Path dir = dirs.get(key);
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        if (event.kind() == StandardWatchEventKinds.OVERFLOW || dir == null) {
+                            rescan = true; // Events were lost
+                            continue;
+                        }
+                        Path p = dir.resolve((Path) event.context());
+                        if (Files.isDirectory(p)) {
+                            registerAll(p, watcher, dirs);
+                            try (Stream<Path> files = Files.walk(p)) {
+                                files.filter(SemanticWatcher::isSource).forEach(changed::add);
+                            }
+                        } else if (isSource(p) || units.containsKey(p)) {
+                            changed.add(p);
+                        }
+                    }
+                    if (!key.reset()) dirs.remove(key);
+                    key = watcher.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS);
+                }
+                if (rescan) {
+                    report(analyzeAll(), start);
+                } else if (!changed.isEmpty()) {
+                    report(update(changed), start);
+                }
+            }
+        }
+    }
+
+    private void registerAll(Path dir, WatchService watcher, Map<WatchKey, Path> dirs) throws IOException {
+        try (Stream<Path> tree = Files.walk(dir)) {
+            for (Path d : tree.filter(Files::isDirectory).collect(Collectors.toList())) {
+                WatchKey key = d.register(watcher, StandardWatchEventKinds.ENTRY_CREATE,
+                                          StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+                dirs.put(key, d);
+            }
+        }
+    }
+
+    private void report(AnalysisResult result, long startNanos) {
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        if (result == null) {
+            out.println("[watch] no .cl files below " + root);
+            return;
+        }
+        SemanticTest.printResult(result, err);
+        err.flush();
+        out.println("[watch] " + units.size() + " files, " + lastParsed + " parsed: "
+                    + result.getOutcome().getDescription() + " (" + millis + " ms)");
+    }
+
+    private static boolean isSource(Path p) {
+        return p.getFileName().toString().endsWith(".cl") && Files.isRegularFile(p);
+    }
+
+    /**
+     * Clears the static types of all the expressions of a class
+     */
+    private static final class TypeReset extends ASTBaseVisitor {
+        @Override
+        public void visit(AST.no_expr node) {
+            node.type = null;
+        }
+
+        @Override
+        public void visit(AST.bool_const node) {
+            node.type = null;
+        }
+
+        @Override
+        public void visit(AST.string_const node) {
+            node.type = null;
+        }
+
+        @Override
+        public void visit(AST.int_const node) {
+            node.type = null;
+        }
+
+        @Override
+        public void visit(AST.object node) {
+            node.type = null;
+        }
+
+        @Override
+        public void visit(AST.comp node) {
+            node.type = null;
+            super.visit(node);
+        }
+
+        @Override
+        public void visit(AST.eq node) {
+            node.type = null;
+            super.visit(node);
+        }
+
+        @Override
+        public void visit(AST.leq node) {
+            node.type = null;
+            super.visit(node);
+        }
+
+        @Override
+        public void visit(AST.lt node) {
+            node.type = null;
+            super.visit(node);
+        }
+
+        @Override
+        public void visit(AST.neg node) {
+            node.type = null;
+            super.visit(node);
+        }
+
+        @Override
+        public void visit(AST.divide node) {
+            node.type = null;
+            super.visit(node);
+        }
+
+        @Override
+        public void visit(AST.mul node) {
+            node.type = null;
+            super.visit(node);
+        }
+
+        @Override
+        public void visit(AST.sub node) {
+            node.type = null;
+            super.visit(node);
+        }
+
+        @Override
+        public void visit(AST.plus node) {
+            node.type = null;
+            super.visit(node);
+        }
+
+        @Override
+        public void visit(AST.isvoid node) {
+            node.type = null;
+            super.visit(node);
+        }
+
+        @Override
+        public void visit(AST.new_ node) {
+            node.type = null;
+        }
+
+        @Override
+        public void visit(AST.assign node) {
+            node.type = null;
+            super.visit(node);
+        }
+
+        @Override
+        public void visit(AST.block node) {
+            node.type = null;
+            super.visit(node);
+        }
+
+        @Override
+        public void visit(AST.loop node) {
+            node.type = null;
+            super.visit(node);
+        }
+
+        @Override
+        public void visit(AST.cond node) {
+            node.type = null;
+            super.visit(node);
+        }
+
+        @Override
+        public void visit(AST.let node) {
+            node.type = null;
+            super.visit(node);
+        }
+
+        @Override
+        public void visit(AST.dispatch node) {
+            node.type = null;
+            super.visit(node);
+        }
+
+        @Override
+        public void visit(AST.typcase node) {
+            node.type = null;
+            super.visit(node);
+        }
+
+        @Override
+        public void visit(AST.static_dispatch node) {
+            node.type = null;
+            super.visit(node);
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package cool;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Reads the .cl entries of a zip, tar, tar.gz or tar.bz2 archive into memory,
+ * without extracting anything to disk.
+ *
+ * The format is told by the first bytes rather than the file name, as the submit
+ * script writes bzip2 compressed tarballs named .tar.gz. The JDK has no bzip2
+ * decoder, so bzip2 archives are piped through the bzip2 command.
+ */
+public final class SourceArchive {
+
+    /**
+     * Receives the .cl entries of an archive in archive order
+     */
+    public interface Visitor {
+        void visit(String entry, byte[] content) throws IOException;
+    }
+
+    private static final int BLOCK = 512;
+
+    private SourceArchive() {
+    }
+
+    /**
+     * Whether the file is named like an archive this class reads
+     */
+    public static boolean isArchive(String filename) {
+        String name = filename.toLowerCase();
+        return name.endsWith(".zip") || name.endsWith(".tar") || name.endsWith(".tar.gz") || name.endsWith(".tgz")
+               || name.endsWith(".tar.bz2") || name.endsWith(".tbz2");
+    }
+
+    /**
+     * Name of an archive entry in diagnostics and results: the path of the archive
+     * as given and the full path of the entry inside it, so that entries of the
+     * same name in other directories or other archives of the same name differ
+     */
+    public static String entryName(Path archive, String entry) {
+        return archive + "!/" + entry;
+    }
+
+    /**
+     * Calls the visitor with every .cl entry of the archive
+     */
+    public static void read(Path archive, Visitor visitor) throws IOException {
+        Process bzip2 = null;
+        try (InputStream file = new BufferedInputStream(Files.newInputStream(archive))) {
+            file.mark(4);
+            int b0 = file.read();
+            int b1 = file.read();
+            int b2 = file.read();
+            file.reset();
+            if (b0 == 'P' && b1 == 'K') {
+                readZip(new ZipInputStream(file), visitor);
+            } else if (b0 == 0x1f && b1 == 0x8b) {
+                readTar(new BufferedInputStream(new GZIPInputStream(file)), visitor);
+            } else if (b0 == 'B' && b1 == 'Z' && b2 == 'h') {
+                bzip2 = new ProcessBuilder("bzip2", "-dc").redirectInput(archive.toFile())
+                                                          .redirectError(ProcessBuilder.Redirect.DISCARD).start();
+                try (InputStream tar = new BufferedInputStream(bzip2.getInputStream())) {
+                    readTar(tar, visitor);
+                    while (tar.read() >= 0) {
+                        // The blocks after the end of the archive
+                    }
+                }
+                try {
+                    if (bzip2.waitFor() != 0) throw new IOException("corrupt bzip2 data");
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("interrupted");
+                }
+            } else {
+                readTar(file, visitor);
+            }
+        } finally {
+            if (bzip2 != null) bzip2.destroy();
+        }
+    }
+
+    private static boolean isSource(String entry) {
+        return entry.endsWith(".cl");
+    }
+
+    private static void readZip(ZipInputStream zip, Visitor visitor) throws IOException {
+        ZipEntry e;
+        while ((e = zip.getNextEntry()) != null) {
+            if (e.isDirectory() || !isSource(e.getName())) continue;
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
+            byte[] chunk = new byte[8192];
+            for (int n; (n = zip.read(chunk)) > 0; )
+                content.write(chunk, 0, n);
+            visitor.visit(e.getName(), content.toByteArray());
+        }
+    }
+
+    /**
+     * Reads ustar, GNU and pax tar streams: 512 byte headers each followed by
+     * the entry padded to whole blocks, up to a zero block
+     */
+    private static void readTar(InputStream tar, Visitor visitor) throws IOException {
+        byte[] header = new byte[BLOCK];
+        String longName = null;     // Of the next entry, from a GNU or pax extension header
+        while (readFully(tar, header, true)) {
+            if (header[0] == 0) return;
+            long size = number(header, 124, 12);
+            char type = (char) header[156];
+            String name = longName != null ? longName : name(header);
+            longName = null;
+            if (type == 'L' || type == 'x') {
+                byte[] data = readEntry(tar, size);
+                longName = type == 'L' ? string(data, 0, data.length) : paxPath(data);
+            } else if ((type == '0' || type == 0) && isSource(name)) {
+                visitor.visit(name, readEntry(tar, size));
+            } else {
+                skip(tar, padded(size));
+            }
+        }
+    }
+
+    private static String name(byte[] header) {
+        String name = string(header, 0, 100);
+        if (string(header, 257, 5).equals("ustar")) {
+            String prefix = string(header, 345, 155);
+            if (!prefix.isEmpty()) name = prefix + "/" + name;
+        }
+        return name;
+    }
+
+    /**
+     * The path record of a pax extended header, null if it has none
+     */
+    private static String paxPath(byte[] data) {
+        // Records are "<length> <key>=<value>\n"
+        int at = 0;
+        while (at < data.length) {
+            int space = at;
+            while (space < data.length && data[space] != ' ')
+                space++;
+            int length = Integer.parseInt(new String(data, at, space - at, StandardCharsets.US_ASCII));
+            String record = new String(data, space + 1, length - (space + 1 - at) - 1, StandardCharsets.UTF_8);
+            if (record.startsWith("path=")) return record.substring(5);
+            at += length;
+        }
+        return null;
+    }
+
+    /**
+     * NUL terminated text of a header field
+     */
+    private static String string(byte[] b, int offset, int length) {
+        int end = offset;
+        while (end < offset + length && b[end] != 0)
+            end++;
+        return new String(b, offset, end - offset, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Octal header field, or big-endian binary when its first bit is set
+     */
+    private static long number(byte[] b, int offset, int length) throws IOException {
+        if ((b[offset] & 0x80) != 0) {
+            long value = b[offset] & 0x7f;
+            for (int i = offset + 1; i < offset + length; i++)
+                value = (value << 8) | (b[i] & 0xff);
+            return value;
+        }
+        long value = 0;
+        for (int i = offset; i < offset + length; i++) {
+            if (b[i] == 0 || b[i] == ' ') {
+                if (value > 0) break;
+                continue;
+            }
+            if (b[i] < '0' || b[i] > '7') throw new IOException("bad number in tar header");
+            value = value * 8 + (b[i] - '0');
+        }
+        return value;
+    }
+
+    private static long padded(long size) {
+        return (size + BLOCK - 1) / BLOCK * BLOCK;
+    }
+
+    private static byte[] readEntry(InputStream tar, long size) throws IOException {
+        if (size > Integer.MAX_VALUE - BLOCK) throw new IOException("tar entry of " + size + " bytes");
+        byte[] data = new byte[(int) size];
+        readFully(tar, data, false);
+        skip(tar, padded(size) - size);
+        return data;
+    }
+
+    /**
+     * Fills b, returns false at the end of the stream if that is allowed before
+     * the first byte
+     */
+    private static boolean readFully(InputStream in, byte[] b, boolean endOk) throws IOException {
+        int done = 0;
+        while (done < b.length) {
+            int n = in.read(b, done, b.length - done);
+            if (n < 0) {
+                if (done == 0 && endOk) return false;
+                throw new EOFException("truncated tar archive");
+            }
+            done += n;
+        }
+        return true;
+    }
+
+    private static void skip(InputStream in, long n) throws IOException {
+        while (n > 0) {
+            long skipped = in.skip(n);
+            if (skipped <= 0) {
+                if (in.read() < 0) throw new EOFException("truncated tar archive");
+                skipped = 1;
+            }
+            n -= skipped;
+        }
+    }
+}
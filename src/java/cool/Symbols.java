@@ -0,0 +1,60 @@
+package cool;
+
+/**
+ * Canonical Strings of the identifiers and type names of the analyzed programs.
+ *
+ * The lexers intern every TYPEID and OBJECTID as they make the token and the AST
+ * constructors intern the names they are given, so a name repeated all over a
+ * program is held by one String instead of one per occurrence. The canonical
+ * String of a name is its String.intern() instance, which the JVM string table
+ * drops once no AST or token refers to it, so a long-running server does not keep
+ * the names of the programs it has seen. Only the fixed-size cache of recent
+ * names below holds names strongly, at most one per slot. Safe to use from
+ * concurrently lexing threads.
+ *
+ * Names stay Strings: there are no Symbol objects or ids, and the maps of the
+ * semantic passes hash and compare their keys with equals().
+ */
+public final class Symbols {
+
+    /**
+     * Canonical Strings by hash of their chars, lets the lexer skip making a
+     * String for a name it has seen. Entries are replaced racily, which is
+     * safe as Strings are immutable.
+     */
+    private static final String[] recent = new String[4096];
+
+    private Symbols() {
+    }
+
+    /**
+     * The canonical instance of a name
+     * @param name
+     * @return      null for null
+     */
+    public static String intern(String name) {
+        return name != null ? name.intern() : null;
+    }
+
+    /**
+     * The canonical instance of the name held by chars [offset, offset+length)
+     */
+    public static String intern(char[] chars, int offset, int length) {
+        int h = 0;
+        for (int i = offset; i < offset + length; i++)
+            h = 31 * h + chars[i];
+        int slot = (h ^ (h >>> 16)) & (recent.length - 1);
+        String s = recent[slot];
+        if (s != null && s.length() == length && matches(s, chars, offset)) return s;
+        s = intern(new String(chars, offset, length));
+        recent[slot] = s;
+        return s;
+    }
+
+    private static boolean matches(String s, char[] chars, int offset) {
+        for (int i = 0; i < s.length(); i++) {
+            if (s.charAt(i) != chars[offset + i]) return false;
+        }
+        return true;
+    }
+}
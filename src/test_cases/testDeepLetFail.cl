@@ -0,0 +1,10007 @@
+(*Expected error : `Expressions nested too deeply to analyze` A let nested 10000 deep.*)
+
+class Main {
+  main() : Int {
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    let x : Int in
+    x
+  };
+};